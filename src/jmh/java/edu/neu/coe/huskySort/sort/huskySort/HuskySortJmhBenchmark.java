@@ -0,0 +1,126 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.ChineseCharacter;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.radix.CharacterMap;
+import edu.neu.coe.huskySort.sort.radix.UnicodeMSDStringSort;
+import edu.neu.coe.huskySort.util.Config;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the husky sorts and UnicodeMSDStringSort (with the System sort as a baseline).
+ * Each benchmark sorts a fresh copy of the same input array, parameterised by size (n), corpus and pre-sortedness (order).
+ * <p>
+ * Build with "mvn -P jmh -DskipTests package" and then run "java -jar target/benchmarks.jar -prof gc"
+ * (or run the main program of this class, which adds the GC profiler to report allocation rates).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HuskySortJmhBenchmark {
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(HuskySortJmhBenchmark.class.getSimpleName())
+                .include(SimpleSortJmhBenchmark.class.getSimpleName())
+                .include(MSDStringSortJmhBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Param({"10000", "100000"})
+    public int n;
+
+    @Param({"eng-uk_web_2002_10K-sentences.txt", "zho-simp-tw_web_2014_10K-sentences.txt"})
+    public String corpus;
+
+    @Param({"random", "sorted", "partial"})
+    public String order;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        input = JmhCorpus.input(corpus, n, order);
+        final Config config = Config.load(HuskySortBenchmark.class);
+        final HuskyCoder<String> coder = HuskyCoderFactory.unicodeCoder;
+        pureHuskySort = new PureHuskySort<>(coder, false, false);
+        mergeHuskySort = new MergeHuskySort<>(coder);
+        introHuskySort = new IntroHuskySort<>("IntroHuskySort", coder, Arrays::sort, config);
+        quickHuskySort = new QuickHuskySort<>(coder, config);
+        huskyBucketSort = new HuskyBucketSort<>(BUCKET_SIZE, coder, config);
+        unicodeMSDStringSort = new UnicodeMSDStringSort(new CharacterMap(ChineseCharacter::new));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // NOTE: the copy is made outside the measured region.
+        xs = Arrays.copyOf(input, input.length);
+    }
+
+    @Benchmark
+    public String[] systemSort() {
+        Arrays.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] pureHuskySort() {
+        pureHuskySort.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] mergeHuskySort() {
+        mergeHuskySort.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] introHuskySort() {
+        introHuskySort.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] quickHuskySort() {
+        quickHuskySort.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] huskyBucketSort() {
+        // NOTE: the buckets are set up by preProcess, which is part of the sort.
+        return huskyBucketSort.sort(huskyBucketSort.preProcess(xs), false);
+    }
+
+    @Benchmark
+    public String[] unicodeMSDStringSort() {
+        unicodeMSDStringSort.sortArray(xs);
+        return xs;
+    }
+
+    private static final int BUCKET_SIZE = 100;
+
+    private String[] input;
+    private String[] xs;
+
+    private PureHuskySort<String> pureHuskySort;
+    private MergeHuskySort<String> mergeHuskySort;
+    private IntroHuskySort<String> introHuskySort;
+    private QuickHuskySort<String> quickHuskySort;
+    private HuskyBucketSort<String> huskyBucketSort;
+    private UnicodeMSDStringSort unicodeMSDStringSort;
+}
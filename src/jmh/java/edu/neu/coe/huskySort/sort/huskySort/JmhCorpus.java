@@ -0,0 +1,87 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.SortException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class to supply the input arrays for the JMH benchmarks.
+ * The words are taken from the Leipzig corpus resources (as in HuskySortBenchmark).
+ * <p>
+ * NOTE: the resources are read as streams (rather than files) so that they can be found inside the benchmarks jar.
+ */
+final class JmhCorpus {
+
+    /**
+     * Method to get an input array of n words from the given resource, with the given pre-sortedness.
+     *
+     * @param resource the name of a Leipzig resource file.
+     * @param n        the number of words required (words are chosen at random, with replacement).
+     * @param order    one of "random", "sorted", "reverse" or "partial" (sorted, then with n/10 random swaps).
+     * @return an array of n Strings.
+     */
+    static String[] input(final String resource, final int n, final String order) {
+        final String[] words = words(resource);
+        final Random random = new Random(0L);
+        final String[] result = new String[n];
+        for (int i = 0; i < n; i++) result[i] = words[random.nextInt(words.length)];
+        switch (order) {
+            case "random":
+                break;
+            case "sorted":
+                Arrays.sort(result);
+                break;
+            case "reverse":
+                Arrays.sort(result);
+                for (int i = 0, j = n - 1; i < j; i++, j--) swap(result, i, j);
+                break;
+            case "partial":
+                Arrays.sort(result);
+                for (int k = 0; k < n / 10; k++) swap(result, random.nextInt(n), random.nextInt(n));
+                break;
+            default:
+                throw new SortException("JmhCorpus: unknown order: " + order);
+        }
+        return result;
+    }
+
+    /**
+     * Method to get the (distinct) words of a Leipzig resource.
+     *
+     * @param resource the name of a Leipzig resource file.
+     * @return an array of words.
+     */
+    static String[] words(final String resource) {
+        return cache.computeIfAbsent(resource, JmhCorpus::readWords);
+    }
+
+    private static String[] readWords(final String resource) {
+        final InputStream stream = JmhCorpus.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) throw new SortException("JmhCorpus: cannot find resource: " + resource);
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            final String[] result = reader.lines()
+                    .flatMap(line -> HuskySortBenchmarkHelper.splitLineIntoStrings(line, HuskySortBenchmark.REGEX_LEIPZIG, HuskySortBenchmarkHelper.REGEX_STRING_SPLITTER).stream())
+                    .filter(s -> s.length() >= 2).distinct().toArray(String[]::new);
+            if (result.length == 0) throw new SortException("JmhCorpus: no words in resource: " + resource);
+            return result;
+        } catch (final IOException e) {
+            throw new SortException("JmhCorpus: cannot read resource: " + resource, e);
+        }
+    }
+
+    private static void swap(final String[] xs, final int i, final int j) {
+        final String temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    private static final Map<String, String[]> cache = new ConcurrentHashMap<>();
+}
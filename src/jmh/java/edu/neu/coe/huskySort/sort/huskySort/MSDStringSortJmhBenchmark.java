@@ -0,0 +1,61 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.radix.Alphabet;
+import edu.neu.coe.huskySort.sort.radix.MSDStringSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for MSDStringSort, with the System sort as a baseline.
+ * Only the English corpus is used because the Alphabet of MSDStringSort can accommodate at most 256 non-ASCII characters.
+ * See HuskySortJmhBenchmark for how to build and run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MSDStringSortJmhBenchmark {
+
+    @Param({"10000", "100000"})
+    public int n;
+
+    @Param({"eng-uk_web_2002_10K-sentences.txt"})
+    public String corpus;
+
+    @Param({"random", "sorted", "partial"})
+    public String order;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        input = JmhCorpus.input(corpus, n, order);
+        msdStringSort = new MSDStringSort(new Alphabet(Alphabet.RADIX_UNICODE));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // NOTE: the copy is made outside the measured region.
+        xs = Arrays.copyOf(input, input.length);
+        msdStringSort.reset();
+    }
+
+    @Benchmark
+    public String[] systemSort() {
+        Arrays.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] msdStringSort() {
+        msdStringSort.sort(xs);
+        return xs;
+    }
+
+    private String[] input;
+    private String[] xs;
+
+    private MSDStringSort msdStringSort;
+}
@@ -0,0 +1,98 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.simple.InsertionSort;
+import edu.neu.coe.huskySort.sort.simple.MergeSortBasic;
+import edu.neu.coe.huskySort.sort.simple.QuickSort_DualPivot;
+import edu.neu.coe.huskySort.sort.simple.ShellSort;
+import edu.neu.coe.huskySort.sort.simple.TimSort;
+import edu.neu.coe.huskySort.util.Config;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the simple (comparison) sorts, with the System sort as a baseline.
+ * The sizes are smaller than those of HuskySortJmhBenchmark because insertion sort is quadratic.
+ * See HuskySortJmhBenchmark for how to build and run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleSortJmhBenchmark {
+
+    @Param({"1000", "10000"})
+    public int n;
+
+    @Param({"eng-uk_web_2002_10K-sentences.txt", "zho-simp-tw_web_2014_10K-sentences.txt"})
+    public String corpus;
+
+    @Param({"random", "sorted", "partial"})
+    public String order;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        input = JmhCorpus.input(corpus, n, order);
+        final Config config = Config.load(HuskySortBenchmark.class);
+        insertionSort = new InsertionSort<>(n, config);
+        shellSort = new ShellSort<>(3, n, config);
+        mergeSortBasic = new MergeSortBasic<>(n, config);
+        quickSortDualPivot = new QuickSort_DualPivot<>(n, config);
+        timSort = new TimSort<>(n, config);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // NOTE: the copy is made outside the measured region.
+        xs = Arrays.copyOf(input, input.length);
+    }
+
+    @Benchmark
+    public String[] systemSort() {
+        Arrays.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] insertionSort() {
+        insertionSort.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] shellSort() {
+        shellSort.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] mergeSortBasic() {
+        mergeSortBasic.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] quickSortDualPivot() {
+        quickSortDualPivot.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public String[] timSort() {
+        timSort.mutatingSort(xs);
+        return xs;
+    }
+
+    private String[] input;
+    private String[] xs;
+
+    private InsertionSort<String> insertionSort;
+    private ShellSort<String> shellSort;
+    private MergeSortBasic<String> mergeSortBasic;
+    private QuickSort_DualPivot<String> quickSortDualPivot;
+    private TimSort<String> timSort;
+}
@@ -8,6 +8,7 @@ import edu.neu.coe.huskySort.sort.SortWithHelper;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyRunSorter;
 import edu.neu.coe.huskySort.util.Config;
 import edu.neu.coe.huskySort.util.LazyLogger;
 
@@ -38,6 +39,8 @@ public abstract class AbstractHuskySort<X extends Comparable<X>> extends SortWit
 
     /**
      * This post-sort process is where HuskySort performs the second sorting pass, if necessary.
+     * If the helper is configured for a run-local post-sort (huskyhelper.runlocalpostsort), then only runs of equal codes
+     * are sorted (see HuskyRunSorter) and the post-sorter is not used.
      *
      * @param xs the array sorted by the first pass.
      * @return either the array passed in or the result of invoking the post-sorter on that array.
@@ -48,7 +51,10 @@ public abstract class AbstractHuskySort<X extends Comparable<X>> extends SortWit
             return xs;
 
         // NOTE: Second pass to fix any remaining inversions.
-        huskyHelper.getPostSorter().accept(xs);
+        if (huskyHelper.isRunLocalPostSort())
+            HuskyRunSorter.sort(xs, huskyHelper.getLongs(), huskyHelper.getCoder());
+        else
+            huskyHelper.getPostSorter().accept(xs);
         return xs;
     }
 
@@ -103,6 +109,8 @@ public abstract class AbstractHuskySort<X extends Comparable<X>> extends SortWit
     protected AbstractHuskySort(final String name, final int n, final HuskyCoder<X> huskyCoder, final Consumer<X[]> postSorter, final Config config) {
         this(name, createHelper(name, n, huskyCoder, postSorter, config.isInstrumented(), config));
         closeHelper = true;
+        huskyHelper.setParallelEncoding(config.getBoolean("huskyhelper", "parallelencoding"));
+        huskyHelper.setRunLocalPostSort(config.getBoolean("huskyhelper", "runlocalpostsort"));
     }
 
     static final HuskyCoder<String> UNICODE_CODER = HuskyCoderFactory.unicodeCoder;
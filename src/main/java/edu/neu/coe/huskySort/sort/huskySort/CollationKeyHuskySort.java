@@ -0,0 +1,74 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.Coding;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyRunSorter;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.SequenceEncoder_Collator;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * This class sorts Strings according to a Collator (for example, Chinese words in pinyin order),
+ * in the manner of PureHuskySort, but such that the collation key of each String is computed only once.
+ * <p>
+ * PureHuskySort with a SequenceEncoder_Collator computes a collation key for each String in the first pass,
+ * but then discards it, so that the second pass invokes the collator afresh (twice) for every comparison.
+ * Here, instead, it is the collation keys themselves which are sorted:
+ * the first pass sorts the keys by husky code (a prefix of the key bytes)
+ * and the second pass sorts runs of equal codes using CollationKey.compareTo, which simply compares the key bytes.
+ * Finally, the Strings are recovered from the keys (see CollationKey.getSourceString).
+ * <p>
+ * NOTE: the price of this is the memory required for the keys of all the Strings at once.
+ */
+public class CollationKeyHuskySort {
+
+    public static void main(final String[] args) {
+        final int N = 50000;
+        final int m = 100;
+        logger.info("CollationKeyHuskySort.main: sorting " + N + " random alphabetic ASCII words " + m + " times (in the Chinese locale)");
+        final CollationKeyHuskySort sorter = new CollationKeyHuskySort(new SequenceEncoder_Collator(Collator.getInstance(Locale.CHINA)), false);
+        for (int i = 0; i < m; i++) sorter.sort(HuskySortHelper.generateRandomAlphaBetaArray(N, 4, 9));
+        logger.info("CollationKeyHuskySort.main: finished");
+    }
+
+    /**
+     * The main sort method.
+     *
+     * @param xs the array to be sorted.
+     */
+    public void sort(final String[] xs) {
+        // NOTE: we shuffle the keys rather than the Strings (see PureHuskySort).
+        final CollationKey[] keys = huskyCoder.getCollationKeys(xs);
+        if (mayBeSorted) Collections.shuffle(Arrays.asList(keys));
+        // NOTE: First pass where we code to longs and sort according to those.
+        final Coding coding = huskyCoder.huskyEncode(keys);
+        final long[] longs = coding.longs;
+        PureHuskySort.introSort(keys, longs, 0, longs.length, 2 * PureHuskySort.floor_lg(keys.length));
+
+        // NOTE: Second pass (if required) to fix any remaining inversions, comparing the keys themselves (i.e. without the collator).
+        if (!coding.perfect)
+            HuskyRunSorter.sort(keys, longs, null, huskyCoder.monotone());
+        for (int i = 0; i < xs.length; i++) xs[i] = keys[i].getSourceString();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param huskyCoder  the collator-based Husky coder.
+     * @param mayBeSorted if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
+     */
+    public CollationKeyHuskySort(final SequenceEncoder_Collator huskyCoder, final boolean mayBeSorted) {
+        this.huskyCoder = huskyCoder;
+        this.mayBeSorted = mayBeSorted;
+    }
+
+    private final SequenceEncoder_Collator huskyCoder;
+    private final boolean mayBeSorted;
+
+    private final static LazyLogger logger = new LazyLogger(CollationKeyHuskySort.class);
+}
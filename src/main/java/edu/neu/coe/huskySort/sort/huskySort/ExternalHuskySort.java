@@ -0,0 +1,210 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class sorts the lines of a (UTF-8) text file which may be too large to fit in memory.
+ * <p>
+ * The input is read in chunks of (at most) chunkSize lines, each of which is sorted in memory by PureHuskySort
+ * and then spilled to a temporary file (a sorted run).
+ * Each record of a run holds the husky code of the line as well as the line itself.
+ * Finally, the runs are merged (k-way) into the output file using a heap of run indexes which is ordered primarily by the husky codes,
+ * so that the comparator is only invoked when two codes are equal.
+ * If the input fits into a single chunk, no temporary files are written.
+ * <p>
+ * NOTE: if the coder is not monotone, then the codes cannot be relied upon to order the runs and so the merge uses only the comparator.
+ * <p>
+ * CONSIDER limiting the number of runs which are merged at once (with several merge passes) for very large inputs.
+ */
+public final class ExternalHuskySort {
+
+    /**
+     * Main program to sort a file.
+     *
+     * @param args the input file, the output file, and, optionally, the chunk size (number of lines) and the temporary directory.
+     */
+    public static void main(final String[] args) {
+        if (args.length < 2) {
+            logger.warn("Usage: ExternalHuskySort input output [chunkSize [temporaryDirectory]]");
+            return;
+        }
+        final File input = new File(args[0]);
+        final File output = new File(args[1]);
+        final int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_SIZE;
+        final File tempDirectory = args.length > 3 ? new File(args[3]) : null;
+        logger.info("ExternalHuskySort.main: sorting " + input + " into " + output + " with chunks of " + chunkSize + " lines");
+        try {
+            final int runs = new ExternalHuskySort(HuskyCoderFactory.unicodeCoder, chunkSize, tempDirectory).sort(input, output);
+            logger.info("ExternalHuskySort.main: finished, having merged " + runs + " runs");
+        } catch (final IOException e) {
+            throw new SortException("ExternalHuskySort: cannot sort " + input, e);
+        }
+    }
+
+    /**
+     * Method to sort the lines of input into output.
+     *
+     * @param input  the file to be sorted.
+     * @param output the file to which the sorted lines will be written (one per line).
+     * @return the number of sorted runs (one if the input fits into a single chunk).
+     * @throws IOException if any file cannot be read or written.
+     */
+    public int sort(final File input, final File output) throws IOException {
+        final List<Run> runs = new ArrayList<>();
+        try {
+            try (final BufferedReader reader = Files.newBufferedReader(input.toPath(), StandardCharsets.UTF_8)) {
+                String[] chunk;
+                while ((chunk = readChunk(reader)).length > 0) {
+                    sorter.sort(chunk);
+                    if (runs.isEmpty() && chunk.length < chunkSize) {
+                        writeLines(chunk, output);
+                        return 1;
+                    }
+                    runs.add(spill(chunk));
+                }
+            }
+            merge(runs, output);
+            return runs.size();
+        } finally {
+            for (final Run run : runs) Files.deleteIfExists(run.path);
+        }
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param huskyCoder    the Husky coder to be used for the encoding into longs.
+     * @param chunkSize     the maximum number of lines to be sorted in memory at any one time.
+     * @param tempDirectory the directory for the sorted runs (if null, the default temporary directory is used).
+     */
+    public ExternalHuskySort(final HuskyCoder<String> huskyCoder, final int chunkSize, final File tempDirectory) {
+        if (chunkSize < 1) throw new SortException("ExternalHuskySort: chunkSize must be positive: " + chunkSize);
+        this.huskyCoder = huskyCoder;
+        this.chunkSize = chunkSize;
+        this.tempDirectory = tempDirectory;
+        this.sorter = new PureHuskySort<>(huskyCoder, true, false);
+        this.comparator = huskyCoder.getCollator() != null ? huskyCoder.getCollator() : Comparator.naturalOrder();
+    }
+
+    /**
+     * Secondary constructor which uses the unicode coder, the default chunk size and the default temporary directory.
+     */
+    public ExternalHuskySort() {
+        this(HuskyCoderFactory.unicodeCoder, DEFAULT_CHUNK_SIZE, null);
+    }
+
+    private String[] readChunk(final BufferedReader reader) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while (lines.size() < chunkSize && (line = reader.readLine()) != null) lines.add(line);
+        return lines.toArray(new String[0]);
+    }
+
+    private static void writeLines(final String[] lines, final File output) throws IOException {
+        try (final BufferedWriter writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+            for (final String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    private Run spill(final String[] chunk) throws IOException {
+        final Path path = tempDirectory != null ? Files.createTempFile(tempDirectory.toPath(), "husky", ".run") : Files.createTempFile("husky", ".run");
+        try (final DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            for (final String line : chunk) {
+                final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                stream.writeLong(huskyCoder.huskyEncode(line));
+                stream.writeInt(bytes.length);
+                stream.write(bytes);
+            }
+        }
+        return new Run(path, chunk.length);
+    }
+
+    private void merge(final List<Run> runs, final File output) throws IOException {
+        final int k = runs.size();
+        final DataInputStream[] streams = new DataInputStream[k];
+        final long[] codes = new long[k];
+        final String[] lines = new String[k];
+        final int[] remaining = new int[k];
+        // NOTE: heap is a (1-based) binary heap of run indexes.
+        final int[] heap = new int[k + 1];
+        int size = 0;
+        try (final BufferedWriter writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+            for (int r = 0; r < k; r++) {
+                streams[r] = new DataInputStream(new BufferedInputStream(Files.newInputStream(runs.get(r).path)));
+                remaining[r] = runs.get(r).size;
+                if (advance(streams[r], r, codes, lines, remaining)) heap[++size] = r;
+            }
+            for (int i = size / 2; i >= 1; i--) downHeap(heap, i, size, codes, lines);
+            while (size > 0) {
+                final int r = heap[1];
+                writer.write(lines[r]);
+                writer.newLine();
+                if (!advance(streams[r], r, codes, lines, remaining)) heap[1] = heap[size--];
+                downHeap(heap, 1, size, codes, lines);
+            }
+        } finally {
+            for (final DataInputStream stream : streams) if (stream != null) stream.close();
+        }
+    }
+
+    private static boolean advance(final DataInputStream stream, final int r, final long[] codes, final String[] lines, final int[] remaining) throws IOException {
+        if (remaining[r] == 0) return false;
+        remaining[r]--;
+        codes[r] = stream.readLong();
+        final byte[] bytes = new byte[stream.readInt()];
+        stream.readFully(bytes);
+        lines[r] = new String(bytes, StandardCharsets.UTF_8);
+        return true;
+    }
+
+    private void downHeap(final int[] heap, int i, final int size, final long[] codes, final String[] lines) {
+        final int r = heap[i];
+        while (2 * i <= size) {
+            int child = 2 * i;
+            if (child < size && less(heap[child + 1], heap[child], codes, lines)) child++;
+            if (!less(heap[child], r, codes, lines)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = r;
+    }
+
+    private boolean less(final int r, final int s, final long[] codes, final String[] lines) {
+        if (huskyCoder.monotone() && codes[r] != codes[s]) return codes[r] < codes[s];
+        return comparator.compare(lines[r], lines[s]) < 0;
+    }
+
+    private static class Run {
+        Run(final Path path, final int size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        final Path path;
+        final int size;
+    }
+
+    static final int DEFAULT_CHUNK_SIZE = 1000000;
+
+    private final HuskyCoder<String> huskyCoder;
+    private final int chunkSize;
+    private final File tempDirectory;
+    private final PureHuskySort<String> sorter;
+    private final Comparator<? super String> comparator;
+
+    private final static LazyLogger logger = new LazyLogger(ExternalHuskySort.class);
+}
@@ -11,11 +11,13 @@ import edu.neu.coe.huskySort.sort.huskySortUtils.*;
 import edu.neu.coe.huskySort.sort.radix.Alphabet;
 import edu.neu.coe.huskySort.sort.radix.CharacterMap;
 import edu.neu.coe.huskySort.sort.radix.MSDStringSort;
+import edu.neu.coe.huskySort.sort.radix.ParallelMSDStringSort;
 import edu.neu.coe.huskySort.sort.radix.UnicodeMSDStringSort;
 import edu.neu.coe.huskySort.sort.simple.TimSort;
 import edu.neu.coe.huskySort.sort.simple.*;
 import edu.neu.coe.huskySort.util.*;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -139,7 +141,8 @@ public final class HuskySortBenchmark {
     }
 
     /**
-     * Method to benchmark sorting of various number types: Integer, Double, Long, BigInteger, Decimal.
+     * Method to benchmark sorting of various number types: Integer, Double, Long, BigInteger, Decimal
+     * (and, if configured, arrays of the primitives int, long and double).
      * Keep in mind that an actual Java program would be unlikely to want to sort an array of Integer, Double or Long because
      * they could be unboxed into an array of primitives.
      * However, they are here to add artistic verisimilitude to an otherwise bald and unconvincing narrative.
@@ -165,6 +168,32 @@ public final class HuskySortBenchmark {
 
         compareSystemAndPureHuskySortsNumeric(n + " Bytes", getSupplier(n, Byte.class, byteFunction), HuskyCoderFactory.createProbabilisticCoder(config.getDouble("benchmarknumbersorters", "pcrit", 0.15)), null, s -> isConfigBenchmarkNumberSorter(s, "probabilistic"), m, Byte.class, true);
         compareSystemAndPureHuskySortsNumeric(n + " Integers", getSupplier(n, Integer.class, Random::nextInt), HuskyCoderFactory.createProbabilisticCoder(config.getDouble("benchmarknumbersorters", "pcrit", 0.15)), null, s -> isConfigBenchmarkNumberSorter(s, "probabilistic"), m, Integer.class, true);
+
+        compareSystemAndPrimitiveHuskySorts(n, s -> isConfigBenchmarkNumberSorter(s, "primitive"), m);
+    }
+
+    /**
+     * Method to compare the system sort with PrimitiveHuskySort for arrays of int, long and double.
+     *
+     * @param n        the number of elements to sort.
+     * @param isConfig a predicate which returns a boolean for both "timsort" or "huskysort".
+     * @param m        the number of repetitions to be run.
+     */
+    static void compareSystemAndPrimitiveHuskySorts(final int n, final Predicate<String> isConfig, final int m) {
+        final Random random = new Random();
+        final Supplier<int[]> intSupplier = () -> random.ints(n).toArray();
+        final Supplier<long[]> longSupplier = () -> random.longs(n).toArray();
+        final Supplier<double[]> doubleSupplier = () -> random.doubles(n).toArray();
+        if (isConfig.test("timsort")) {
+            logBenchmarkRun(new Benchmark<int[]>("Sort " + n + " ints using System sort", int[]::clone, Arrays::sort, null).run(intSupplier, m));
+            logBenchmarkRun(new Benchmark<long[]>("Sort " + n + " longs using System sort", long[]::clone, Arrays::sort, null).run(longSupplier, m));
+            logBenchmarkRun(new Benchmark<double[]>("Sort " + n + " doubles using System sort", double[]::clone, Arrays::sort, null).run(doubleSupplier, m));
+        }
+        if (isConfig.test("huskysort")) {
+            logBenchmarkRun(new Benchmark<int[]>("Sort " + n + " ints using PrimitiveHuskySort", int[]::clone, PrimitiveHuskySort::sort, null).run(intSupplier, m));
+            logBenchmarkRun(new Benchmark<long[]>("Sort " + n + " longs using PrimitiveHuskySort", long[]::clone, PrimitiveHuskySort::sort, null).run(longSupplier, m));
+            logBenchmarkRun(new Benchmark<double[]>("Sort " + n + " doubles using PrimitiveHuskySort", double[]::clone, PrimitiveHuskySort::sort, null).run(doubleSupplier, m));
+        }
     }
 
     /**
@@ -201,6 +230,28 @@ public final class HuskySortBenchmark {
             doPureBenchmark(words, nWords, nRuns, random, benchmark, preSorted);
         }
 
+        if (isConfigBenchmarkStringSorter("parallelpurehuskysort")) {
+            final ParallelPureHuskySort<String> parallelPureHuskySort = new ParallelPureHuskySort<>(huskyCoder, preSorted);
+            final Benchmark<String[]> benchmark = new Benchmark<>(getDescription(nWords, "ParallelPureHuskySort", s2), null, parallelPureHuskySort::sort, null);
+            doPureBenchmark(words, nWords, nRuns, random, benchmark, preSorted);
+        }
+
+        if (isConfigBenchmarkStringSorter("parallelmsdstringsort")) {
+            // NOTE: ParallelMSDStringSort sorts into natural order, so it is not comparable where the coder has a collator.
+            if (huskyCoder.getCollator() == null) {
+                final ParallelMSDStringSort parallelMSDStringSort = new ParallelMSDStringSort();
+                final Benchmark<String[]> benchmark = new Benchmark<>(getDescription(nWords, "ParallelMSDStringSort", s2), null, parallelMSDStringSort::sort, HuskySortBenchmark::checkSorted);
+                doPureBenchmark(words, nWords, nRuns, random, benchmark, preSorted);
+            } else
+                logger.info("benchmarkStringSorters: ParallelMSDStringSort is not run because coder " + huskyCoder.name() + " has a collator");
+        }
+
+        if (isConfigBenchmarkStringSorter("radixhuskysort")) {
+            final RadixHuskySort<String> radixHuskySort = new RadixHuskySort<>(huskyCoder);
+            final Benchmark<String[]> benchmark = new Benchmark<>(getDescription(nWords, "RadixHuskySort", s2), null, radixHuskySort::sort, null);
+            doPureBenchmark(words, nWords, nRuns, random, benchmark, preSorted);
+        }
+
         if (isConfigBenchmarkStringSorter("mergehuskysort")) {
             final MergeHuskySort<String> mergeHuskySort = new MergeHuskySort<>(huskyCoder);
             final Benchmark<String[]> benchmark = new Benchmark<>(getDescription(nWords, "MergeHuskySort", s2), null, mergeHuskySort::sort, null);
@@ -254,7 +305,7 @@ public final class HuskySortBenchmark {
     public void benchmarkUnicodeStringSortersSeeded(final String corpus, final String[] words, final int nWords, final int nRuns, final Random random) {
         logger.info("benchmarkUnicodeStringSortersSeeded: testing unicode string sorts with " + formatWhole(nRuns) + " runs of sorting " + formatWhole(nWords) + " words");
         if (isConfigBenchmarkStringSorter("unicodemsdstringsort")) {
-            final Sorter<String> sorter = new UnicodeMSDStringSort(new CharacterMap(ChineseCharacter::new, "Hanyu", '阿'));
+            final Sorter<String> sorter = new UnicodeMSDStringSort(getCharacterMap());
             final Benchmark<String[]> benchmark = new Benchmark<>("UnicodeMSDStringSort (Chinese Names)", null, sorter::sortArray, HuskySortBenchmark::checkChineseSorted);
             doPureBenchmark(words, nWords, nRuns, random, benchmark, false);
         }
@@ -270,6 +321,15 @@ public final class HuskySortBenchmark {
             doPureBenchmark(words, nWords, nRuns, random, benchmark, preSorted);
         }
 
+        if (isConfigBenchmarkStringSorter("collationkeyhuskysort")) {
+            final String s2 = ") words from " + corpus;
+            final HuskyCoder<String> huskyCoder = HuskyCoderFactory.chineseEncoderCollator;
+            final PureHuskySort<String> pureHuskySort = new PureHuskySort<>(huskyCoder, false, false);
+            doPureBenchmark(words, nWords, nRuns, random, new Benchmark<>(getDescription(nWords, "PureHuskySort (Collator)", s2), null, pureHuskySort::sort, null), false);
+            final CollationKeyHuskySort collationKeyHuskySort = new CollationKeyHuskySort((SequenceEncoder_Collator) huskyCoder, false);
+            doPureBenchmark(words, nWords, nRuns, random, new Benchmark<>(getDescription(nWords, "CollationKeyHuskySort", s2), null, collationKeyHuskySort::sort, null), false);
+        }
+
         if (isConfigBenchmarkStringSorter("msdstringsort")) {
             final String s2 = ") words from " + corpus;
             final MSDStringSort sorter = new MSDStringSort(new Alphabet(Alphabet.RADIX_UNICODE));
@@ -285,6 +345,13 @@ public final class HuskySortBenchmark {
                 throw new RuntimeException("sort exception", e);
             }
         }
+
+        if (isConfigBenchmarkStringSorter("parallelmsdstringsort")) {
+            final String s2 = ") words from " + corpus;
+            final ParallelMSDStringSort sorter = new ParallelMSDStringSort();
+            final Benchmark<String[]> benchmark = new Benchmark<>(getDescription(nWords, "ParallelMSDStringSort", s2), null, sorter::sort, HuskySortBenchmark::checkSorted);
+            doPureBenchmark(words, nWords, nRuns, random, benchmark, false);
+        }
     }
 
     /**
@@ -445,6 +512,9 @@ public final class HuskySortBenchmark {
 
     final static LazyLogger logger = new LazyLogger(HuskySortBenchmark.class);
 
+    // NOTE: this is the name (for the huskycoder option) of the coder which is chosen according to the words to be sorted.
+    final static String ADAPTIVE_CODER = "Adaptive";
+
     final static Pattern REGEX_LEIPZIG = Pattern.compile("[~\\t]*\\t(([\\s\\p{Punct}\\uFF0C]*\\p{L}+)*)");
 
     public static final Function<Random, Byte> byteFunction = r -> {
@@ -493,10 +563,6 @@ public final class HuskySortBenchmark {
         return () -> Utilities.fillRandomArray(clazz, new Random(), n, randomNumberFunction);
     }
 
-    private static List<String> getLeipzigWords(final String line) {
-        return HuskySortBenchmarkHelper.splitLineIntoStrings(line, REGEX_LEIPZIG, HuskySortBenchmarkHelper.REGEX_STRING_SPLITTER);
-    }
-
     private static <Y> Benchmark<Y[]> benchmarkFactory(final String description, final Consumer<Y[]> sorter, final Predicate<Y[]> checker) {
         return new Benchmark<>(
                 description,
@@ -626,7 +692,7 @@ public final class HuskySortBenchmark {
     }
 
     /**
-     * Method to compare system sort with pure Husky sort, dual-pivot quick sort, and merge-husky-sort.
+     * Method to compare system sort with pure Husky sort, dual-pivot quick sort, merge-husky-sort and radix-husky-sort.
      *
      * @param <Y>        the underlying type of the array to be sorted.
      * @param subject    a String representing the number of instances and the class name being sorted.
@@ -648,12 +714,17 @@ public final class HuskySortBenchmark {
 
         if (isConfig.test("mergehuskysort"))
             logBenchmarkRun(benchmarkFactory("Sort " + subject + " using MergeHuskySort", new MergeHuskySort<>(huskyCoder)::sort, checker).run(supplier, m));
+
+        if (isConfig.test("radixhuskysort"))
+            logBenchmarkRun(benchmarkFactory("Sort " + subject + " using RadixHuskySort", new RadixHuskySort<>(huskyCoder)::sort, checker).run(supplier, m));
     }
 
     // CONSIDER why don't we just go with "10K", etc. for x??
     private void doLeipzigBenchmarkEnglish(final int n, final int m) {
         final String resource = "eng-uk_web_2002_" + (n < 50000 ? "10K" : n < 200000 ? "100K" : "1M") + "-sentences.txt";
-        final HuskyCoder<String> huskyCoder = HuskySortHelper.getSequenceCoderByName(getConfigHuskyCoder());
+        final String coderName = getConfigHuskyCoder();
+        // NOTE: an adaptive coder can only be chosen once the words are known.
+        final HuskyCoder<String> huskyCoder = coderName.equals(ADAPTIVE_CODER) ? null : HuskySortHelper.getSequenceCoderByName(coderName);
         doLeipzigBenchmark(resource, n, m, huskyCoder);
     }
 
@@ -695,8 +766,9 @@ public final class HuskySortBenchmark {
         runDateTimeSortBenchmark(LocalDateTime.class, localDateTimes, n, m, i);
     }
 
-    private void doLeipzigBenchmark(final String resource, final int nWords, final int nRuns, final HuskyCoder<String> huskyCoder) {
+    private void doLeipzigBenchmark(final String resource, final int nWords, final int nRuns, final HuskyCoder<String> coder) {
         final String[] words = getLeipzigWordsFromResource(resource);
+        final HuskyCoder<String> huskyCoder = coder != null ? coder : AdaptiveHuskyCoder.create(words);
         // NOTE that the words retrieved from the resource have variable number of Chinese characters in each string.
         // I have noted strings with lengths from 2 up to 34 characters, with possibly more.
         if (isConfigBoolean(Config.HELPER, BaseHelper.INSTRUMENT))
@@ -706,7 +778,7 @@ public final class HuskySortBenchmark {
     }
 
     private static String[] getLeipzigWordsFromResource(final String resource) {
-        return HuskySortBenchmarkHelper.getWords(resource, HuskySortBenchmark::getLeipzigWords);
+        return HuskySortBenchmarkHelper.getLeipzigWords(resource);
     }
 
     private static <Y extends Number & Comparable<Y>> void doNumericQuicksort(final String subject, final Supplier<Y[]> supplier, final int m, final Class<? extends Number> clazz, final boolean isInt) {
@@ -826,6 +898,26 @@ public final class HuskySortBenchmark {
         return config.getBoolean(section, option);
     }
 
+    /**
+     * Method to get the CharacterMap for Chinese sorts.
+     * If the configuration specifies a snapshot (see CharacterMap.main) which exists, then the map is loaded from that snapshot
+     * (provided that it is a valid snapshot for the Hanyu dialect).
+     *
+     * @return a CharacterMap for Chinese characters (in the Hanyu dialect).
+     */
+    private CharacterMap getCharacterMap() {
+        final String snapshot = config.get("benchmarkstringsorters", "charactermapsnapshot", "");
+        if (!snapshot.isEmpty() && new File(snapshot).exists())
+            try {
+                final CharacterMap result = CharacterMap.load(new File(snapshot), ChineseCharacter::new);
+                if (result.getDialect().equals("Hanyu")) return result;
+                logger.warn("getCharacterMap: snapshot " + snapshot + " is for dialect " + result.getDialect() + ", not Hanyu");
+            } catch (final IOException e) {
+                logger.warn("getCharacterMap: cannot load snapshot: " + snapshot, e);
+            }
+        return new CharacterMap(ChineseCharacter::new, "Hanyu", '阿');
+    }
+
     private String getConfigHuskyCoder() {
         return config.get("huskysort", "huskycoder", "Unicode");
     }
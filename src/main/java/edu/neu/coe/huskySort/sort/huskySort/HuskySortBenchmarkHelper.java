@@ -42,6 +42,29 @@ public final class HuskySortBenchmarkHelper {
         }
     }
 
+    /**
+     * Method to open a resource (a corpus in the Leipzig format) relative to this class and get an array of its distinct words.
+     * The corresponding File is memory-mapped and tokenized directly (see MappedCorpus),
+     * which is considerably faster than getWords with a regular expression for each line.
+     *
+     * @param resource the URL of the resource containing the sentences required.
+     * @return an array of Strings.
+     */
+    public static String[] getLeipzigWords(final String resource) {
+        try {
+            final File file = new File(getPathname(resource, QuickHuskySort.class));
+            final String[] result = MappedCorpus.map(file).words(2);
+            logger.info("getLeipzigWords: testing with " + formatWhole(result.length) + " unique words: from " + file);
+            return result;
+        } catch (final FileNotFoundException e) {
+            logger.warn("Cannot find resource: " + resource, e);
+            return new String[0];
+        } catch (final IOException e) {
+            logger.warn("Cannot map resource: " + resource, e);
+            return new String[0];
+        }
+    }
+
     /**
      * Method to read given file and return a String[] of its content.
      *
@@ -6,6 +6,7 @@ package edu.neu.coe.huskySort.sort.huskySort;
 import edu.neu.coe.huskySort.sort.InstrumentedComparisonSortHelper;
 import edu.neu.coe.huskySort.sort.SortWithHelper;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyPermutation;
 import edu.neu.coe.huskySort.sort.simple.MergeSortBasic;
 import edu.neu.coe.huskySort.util.*;
 
@@ -61,7 +62,9 @@ public class IntroHuskySort<X extends Comparable<X>> extends AbstractHuskySort<X
      */
     public void sort(final X[] xs, final int from, final int to) {
         final long[] longs = getHelper().getLongs();
-        quickSort(xs, longs, 0, longs.length - 1, 2 * floor_lg(to - from));
+        // NOTE: the index permutation bypasses the helper's swap method and so swaps will not be counted.
+        if (useIndexPermutation) HuskyPermutation.sort(xs, longs, 0, xs.length);
+        else quickSort(xs, longs, 0, xs.length - 1, 2 * floor_lg(to - from));
     }
 
     /**
@@ -165,6 +168,7 @@ public class IntroHuskySort<X extends Comparable<X>> extends AbstractHuskySort<X
     public IntroHuskySort(final String name, final HuskyCoder<X> huskyCoder, final Consumer<X[]> postSorter, final Config config, final SortWithHelper<X> adjunctSorter) {
         super(name, 0, huskyCoder, postSorter, config);
         this.adjunctSorter = adjunctSorter;
+        this.useIndexPermutation = config.getBoolean("huskyhelper", "indexpermutation");
     }
 
     /**
@@ -273,6 +277,9 @@ public class IntroHuskySort<X extends Comparable<X>> extends AbstractHuskySort<X
 
     private final SortWithHelper<X> adjunctSorter;
 
+    // NOTE: if true, the first pass sorts (code, index) pairs and permutes the Xs only once (see HuskyPermutation).
+    private final boolean useIndexPermutation;
+
     private boolean closed;
 
 }
@@ -0,0 +1,275 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Class to represent a (UTF-8) corpus file in the Leipzig format (a sentence number, a tab, and then a sentence on each line)
+ * which has been memory-mapped rather than read line by line.
+ * <p>
+ * Words are tokenized directly from the mapped bytes, yielding exactly the same words as HuskySortBenchmark.REGEX_LEIPZIG
+ * followed by HuskySortBenchmarkHelper.REGEX_STRING_SPLITTER:
+ * a word is a maximal run of letters in the sentence;
+ * the sentence ends at the first character which is neither a letter nor a separator (white space, ASCII punctuation or a full-width comma).
+ * <p>
+ * Husky codes (identical to those of HuskyCoderFactory.unicodeCoder) can be generated from the bytes without creating any Strings.
+ */
+public final class MappedCorpus {
+
+    /**
+     * Interface to visit each word of a corpus.
+     */
+    @FunctionalInterface
+    public interface WordVisitor {
+        /**
+         * Visit one word.
+         *
+         * @param offset the offset of the first byte of the word.
+         * @param length the number of bytes in the word.
+         * @param chars  the number of (UTF-16) chars in the word, i.e. the length of the corresponding String.
+         */
+        void visit(int offset, int length, int chars);
+    }
+
+    /**
+     * Class to represent the words of a corpus as slices of the mapped bytes, together with their husky codes.
+     */
+    public static final class Slices {
+        public final int[] offsets;
+        public final int[] lengths;
+        public final long[] codes;
+        // NOTE: true if no word is too long to be perfectly encoded.
+        public final boolean perfect;
+
+        Slices(final int[] offsets, final int[] lengths, final long[] codes, final boolean perfect) {
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.codes = codes;
+            this.perfect = perfect;
+        }
+
+        public int size() {
+            return offsets.length;
+        }
+    }
+
+    /**
+     * Method to memory-map the given file.
+     *
+     * @param file a UTF-8 file in the Leipzig format.
+     * @return a new MappedCorpus.
+     * @throws IOException if the file cannot be mapped.
+     */
+    public static MappedCorpus map(final File file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new SortException("MappedCorpus: file is too large to be mapped: " + file + " (" + size + " bytes)");
+            // NOTE: the mapping remains valid after the channel is closed.
+            return new MappedCorpus(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Method to visit every word (including duplicates) in order of occurrence.
+     *
+     * @param visitor the WordVisitor.
+     * @return the number of words visited.
+     */
+    public int forEachWord(final WordVisitor visitor) {
+        final int n = buffer.limit();
+        int count = 0;
+        int i = 0;
+        while (i < n) {
+            // NOTE: skip the sentence number (a line without a tab contributes no words).
+            byte b;
+            while (i < n && (b = buffer.get(i)) != '\t' && b != '\n' && b != '\r') i++;
+            if (i < n && buffer.get(i) == '\t') {
+                i++;
+                int start = -1;
+                int chars = 0;
+                while (i < n && (b = buffer.get(i)) != '\n' && b != '\r') {
+                    final int codePoint = decode(i);
+                    if (Character.isLetter(codePoint)) {
+                        if (start < 0) {
+                            start = i;
+                            chars = 0;
+                        }
+                        chars += Character.charCount(codePoint);
+                    } else {
+                        if (start >= 0) {
+                            visitor.visit(start, i - start, chars);
+                            count++;
+                            start = -1;
+                        }
+                        // NOTE: the remainder of the sentence is ignored (as by REGEX_LEIPZIG).
+                        if (!isSeparator(codePoint)) break;
+                    }
+                    i += width;
+                }
+                if (start >= 0) {
+                    visitor.visit(start, i - start, chars);
+                    count++;
+                }
+                while (i < n && (b = buffer.get(i)) != '\n' && b != '\r') i++;
+            }
+            i++;
+        }
+        return count;
+    }
+
+    /**
+     * Method to get the distinct words of this corpus, in order of first occurrence.
+     * The result is the same as that of HuskySortBenchmarkHelper.getWords with the Leipzig line function.
+     *
+     * @param minLength the minimum acceptable length (in chars) for a word.
+     * @return an array of Strings.
+     */
+    public String[] words(final int minLength) {
+        final Set<String> result = new LinkedHashSet<>();
+        forEachWord((offset, length, chars) -> {
+            if (chars >= minLength) result.add(word(offset, length));
+        });
+        return result.toArray(new String[0]);
+    }
+
+    /**
+     * Method to get every word (including duplicates) as a slice of the mapped bytes, together with its husky code.
+     * No Strings are created.
+     *
+     * @param minLength the minimum acceptable length (in chars) for a word.
+     * @return a Slices object.
+     */
+    public Slices slices(final int minLength) {
+        final int[] count = new int[1];
+        forEachWord((offset, length, chars) -> {
+            if (chars >= minLength) count[0]++;
+        });
+        final int[] offsets = new int[count[0]];
+        final int[] lengths = new int[count[0]];
+        final long[] codes = new long[count[0]];
+        final boolean[] perfect = {true};
+        count[0] = 0;
+        forEachWord((offset, length, chars) -> {
+            if (chars >= minLength) {
+                offsets[count[0]] = offset;
+                lengths[count[0]] = length;
+                codes[count[0]++] = unicodeCode(offset, length);
+                if (perfect[0]) perfect[0] = HuskyCoderFactory.unicodeCoder.perfectForLength(chars);
+            }
+        });
+        return new Slices(offsets, lengths, codes, perfect[0]);
+    }
+
+    /**
+     * Method to create the String corresponding to a slice of the mapped bytes.
+     *
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @return a String.
+     */
+    public String word(final int offset, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method to yield the husky code of a slice of the mapped bytes, without creating a String.
+     * The result is identical to HuskyCoderFactory.unicodeCoder.huskyEncode(word(offset, length)).
+     *
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @return the husky code.
+     */
+    public long unicodeCode(final int offset, final int length) {
+        final int end = offset + length;
+        long result = 0L;
+        int units = 0;
+        for (int i = offset; units < CHARS_PER_LONG && i < end; i += width) {
+            final int codePoint = decode(i);
+            if (Character.isBmpCodePoint(codePoint)) {
+                result = result << Character.SIZE | codePoint;
+                units++;
+            } else {
+                result = result << Character.SIZE | Character.highSurrogate(codePoint);
+                if (++units < CHARS_PER_LONG) {
+                    result = result << Character.SIZE | Character.lowSurrogate(codePoint);
+                    units++;
+                }
+            }
+        }
+        return result << Character.SIZE * (CHARS_PER_LONG - units) >>> 1;
+    }
+
+    /**
+     * @return the number of bytes in this corpus.
+     */
+    public int size() {
+        return buffer.limit();
+    }
+
+    /**
+     * Decode the UTF-8 character which begins at index i, setting width to the number of bytes in its encoding.
+     * Malformed input yields the replacement character (one byte at a time).
+     *
+     * @param i the index of the first byte.
+     * @return the code point.
+     */
+    private int decode(final int i) {
+        final int b0 = buffer.get(i) & 0xFF;
+        width = 1;
+        if (b0 < 0x80) return b0;
+        final int extra = b0 >= 0xF0 ? (b0 <= 0xF4 ? 3 : -1) : b0 >= 0xE0 ? 2 : b0 >= 0xC2 ? 1 : -1;
+        if (extra < 0 || i + extra >= buffer.limit()) return REPLACEMENT;
+        int result = b0 & (0x3F >> extra);
+        for (int j = 1; j <= extra; j++) {
+            final int b = buffer.get(i + j) & 0xFF;
+            if ((b & 0xC0) != 0x80) return REPLACEMENT;
+            result = result << 6 | b & 0x3F;
+        }
+        width = extra + 1;
+        return result;
+    }
+
+    /**
+     * Method to determine if a code point is one of the separators of HuskySortBenchmarkHelper.REGEX_STRING_SPLITTER.
+     *
+     * @param codePoint the code point.
+     * @return true if codePoint is white space, ASCII punctuation or a full-width comma.
+     */
+    static boolean isSeparator(final int codePoint) {
+        switch (codePoint) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case 0x0B:
+            case '\f':
+            case '\r':
+            case 0xFF0C:
+                return true;
+            default:
+                return codePoint > ' ' && codePoint < 0x7F && !Character.isLetterOrDigit(codePoint);
+        }
+    }
+
+    private MappedCorpus(final MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    private static final int CHARS_PER_LONG = Long.SIZE / Character.SIZE;
+    private static final int REPLACEMENT = 0xFFFD;
+
+    private final MappedByteBuffer buffer;
+    // NOTE: the width (in bytes) of the most recently decoded character (this class is not thread-safe).
+    private int width;
+}
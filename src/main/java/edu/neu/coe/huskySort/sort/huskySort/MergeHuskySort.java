@@ -4,6 +4,7 @@ import edu.neu.coe.huskySort.sort.huskySortUtils.Coding;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyWorkspace;
 import edu.neu.coe.huskySort.util.LazyLogger;
 
 import java.util.Arrays;
@@ -41,23 +42,29 @@ public class MergeHuskySort<X extends Comparable<X>> {
 
     /**
      * The main sort method.
-     * This version of merge sort has three improvements over the basic HuskySort/MergeSort scheme:
+     * This version of merge sort has four improvements over the basic HuskySort/MergeSort scheme:
      * <ul>
      *     <li>Insertion sort cutoff</li>
      *     <li>Insurance check for all right-hand partition larger than all left-hand partition.</li>
      *     <li>Avoidance of copying between the arrays (other than the sort method itself).</li>
+     *     <li>Reuse of the long and auxiliary arrays from one sort to the next (see HuskyWorkspace).</li>
      * </ul>
      *
      * @param xs the array to be sorted.
      */
     public void sort(final X[] xs) {
+        final HuskyWorkspace workspace = this.workspace != null ? this.workspace : HuskyWorkspace.forCurrentThread();
         // NOTE: First pass where we code to longs and sort according to those.
-        final Coding coding = huskyCoder.huskyEncode(xs);
-        final long[] longs = coding.longs;
         final int n = xs.length;
-        final X[] xsCopy = Arrays.copyOf(xs, n);
-        final long[] longsCopy = Arrays.copyOf(longs, n);
+        final Coding coding = huskyCoder.huskyEncode(xs, workspace.getLongs(n));
+        final long[] longs = coding.longs;
+        // NOTE: this cast is safe because X is erased (see HuskyWorkspace.getXsAux).
+        @SuppressWarnings("unchecked") final X[] xsCopy = (X[]) workspace.getXsAux(n);
+        System.arraycopy(xs, 0, xsCopy, 0, n);
+        final long[] longsCopy = workspace.getLongsAux(n);
+        System.arraycopy(longs, 0, longsCopy, 0, n);
         mergeSort(longsCopy, xsCopy, longs, xs, 0, n);
+        workspace.releaseXsAux(n);
 
         // NOTE: Second pass (if required) to fix any remaining inversions.
         if (coding.perfect)
@@ -69,9 +76,21 @@ public class MergeHuskySort<X extends Comparable<X>> {
      * Primary constructor.
      *
      * @param huskyCoder the Husky coder to be used for the encoding into longs.
+     * @param workspace  the workspace to be used for the scratch arrays (if null, the workspace of the current thread is used).
+     *                   NOTE: a sorter with an explicit workspace must not be used by more than one thread at a time.
      */
-    public MergeHuskySort(final HuskyCoder<X> huskyCoder) {
+    public MergeHuskySort(final HuskyCoder<X> huskyCoder, final HuskyWorkspace workspace) {
         this.huskyCoder = huskyCoder;
+        this.workspace = workspace;
+    }
+
+    /**
+     * Secondary constructor which uses the workspace of the current thread.
+     *
+     * @param huskyCoder the Husky coder to be used for the encoding into longs.
+     */
+    public MergeHuskySort(final HuskyCoder<X> huskyCoder) {
+        this(huskyCoder, null);
     }
 
     private static final int cutoff = 8;
@@ -159,6 +178,7 @@ public class MergeHuskySort<X extends Comparable<X>> {
     }
 
     private final HuskyCoder<X> huskyCoder;
+    private final HuskyWorkspace workspace;
 
     private final static LazyLogger logger = new LazyLogger(MergeHuskySort.class);
 }
@@ -0,0 +1,151 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.Coding;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class is a multi-threaded version of PureHuskySort.
+ * The first pass partitions the (xs, longs) pair exactly as PureHuskySort does,
+ * but the partitions of any range larger than parallelThreshold are sorted as separate ForkJoin tasks.
+ * Ranges at or below the threshold are handed to the (sequential) introSort of PureHuskySort.
+ * The encoding is performed by huskyEncodeParallel and the second pass (if required) uses Arrays.parallelSort.
+ *
+ * @param <X> the type of the elements to be sorted.
+ */
+public class ParallelPureHuskySort<X extends Comparable<X>> {
+
+    public static void main(final String[] args) {
+
+        final int N = 1000000;
+        final int m = 100;
+        logger.info("ParallelPureHuskySort.main: sorting " + N + " random alphabetic ASCII words " + m + " times with parallelism " + ForkJoinPool.commonPool().getParallelism());
+        final ParallelPureHuskySort<String> sorter = new ParallelPureHuskySort<>(HuskyCoderFactory.asciiCoder, false);
+        for (int i = 0; i < m; i++) {
+            final String[] alphaBetaArray = HuskySortHelper.generateRandomAlphaBetaArray(N, 4, 9);
+            sorter.sort(alphaBetaArray);
+        }
+        logger.info("ParallelPureHuskySort.main: finished");
+    }
+
+    /**
+     * The main sort method.
+     *
+     * @param xs the array to be sorted.
+     */
+    public void sort(final X[] xs) {
+        // NOTE: we start with a random shuffle (see PureHuskySort).
+        if (mayBeSorted) Collections.shuffle(Arrays.asList(xs));
+        // NOTE: First pass where we code to longs (in parallel) and sort according to those.
+        final Coding coding = huskyCoder.huskyEncodeParallel(xs);
+        final long[] longs = coding.longs;
+        if (longs.length > parallelThreshold)
+            pool.invoke(new IntroSortTask<>(xs, longs, 0, longs.length, 2 * PureHuskySort.floor_lg(xs.length), parallelThreshold));
+        else
+            PureHuskySort.introSort(xs, longs, 0, longs.length, 2 * PureHuskySort.floor_lg(xs.length));
+
+        // NOTE: Second pass (if required) to fix any remaining inversions.
+        if (coding.perfect)
+            return;
+        final Collator collator = huskyCoder.getCollator();
+        if (collator == null) Arrays.parallelSort(xs);
+        else Arrays.parallelSort(xs, collator);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param huskyCoder        the Husky coder to be used for the encoding into longs.
+     * @param mayBeSorted       if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
+     * @param parallelThreshold the size of partition above which the partitions will be sorted by separate tasks.
+     * @param pool              the ForkJoinPool in which to run the tasks.
+     */
+    public ParallelPureHuskySort(final HuskyCoder<X> huskyCoder, final boolean mayBeSorted, final int parallelThreshold, final ForkJoinPool pool) {
+        this.huskyCoder = huskyCoder;
+        this.mayBeSorted = mayBeSorted;
+        this.parallelThreshold = Math.max(parallelThreshold, PureHuskySort.sizeThreshold + 1);
+        this.pool = pool;
+    }
+
+    /**
+     * Secondary constructor which uses the default threshold and the common ForkJoinPool.
+     *
+     * @param huskyCoder  the Husky coder to be used for the encoding into longs.
+     * @param mayBeSorted if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
+     */
+    public ParallelPureHuskySort(final HuskyCoder<X> huskyCoder, final boolean mayBeSorted) {
+        this(huskyCoder, mayBeSorted, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Task which performs one partition of the range from..to and then sorts the (up to) three resulting partitions,
+     * forking those which are larger than the parallel threshold.
+     *
+     * @param <T> the type of the elements to be sorted.
+     */
+    private static class IntroSortTask<T extends Comparable<T>> extends RecursiveAction {
+        IntroSortTask(final T[] objects, final long[] longs, final int from, final int to, final int depthThreshold, final int parallelThreshold) {
+            this.objects = objects;
+            this.longs = longs;
+            this.from = from;
+            this.to = to;
+            this.depthThreshold = depthThreshold;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= parallelThreshold || depthThreshold == 0) {
+                PureHuskySort.introSort(objects, longs, from, to, depthThreshold);
+                return;
+            }
+
+            // NOTE: this partition is identical to that of PureHuskySort.introSort.
+            final int lo = from;
+            final int hi = to - 1;
+
+            if (longs[hi] < longs[lo]) PureHuskySort.swap(objects, longs, lo, hi);
+
+            int lt = lo + 1, gt = hi - 1;
+            int i = lo + 1;
+            while (i <= gt) {
+                if (longs[i] < longs[lo]) PureHuskySort.swap(objects, longs, lt++, i++);
+                else if (longs[hi] < longs[i]) PureHuskySort.swap(objects, longs, i, gt--);
+                else i++;
+            }
+            PureHuskySort.swap(objects, longs, lo, --lt);
+            PureHuskySort.swap(objects, longs, hi, ++gt);
+            final IntroSortTask<T> left = new IntroSortTask<>(objects, longs, lo, lt, depthThreshold - 1, parallelThreshold);
+            final IntroSortTask<T> right = new IntroSortTask<>(objects, longs, gt + 1, hi + 1, depthThreshold - 1, parallelThreshold);
+            if (longs[lt] < longs[gt])
+                invokeAll(left, new IntroSortTask<>(objects, longs, lt + 1, gt, depthThreshold - 1, parallelThreshold), right);
+            else
+                invokeAll(left, right);
+        }
+
+        private final T[] objects;
+        private final long[] longs;
+        private final int from;
+        private final int to;
+        private final int depthThreshold;
+        private final int parallelThreshold;
+    }
+
+    // NOTE: this is the size of range below which the overhead of a new task is not worthwhile.
+    static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+    private final HuskyCoder<X> huskyCoder;
+    private final boolean mayBeSorted;
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    private final static LazyLogger logger = new LazyLogger(ParallelPureHuskySort.class);
+}
@@ -0,0 +1,160 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.util.Random;
+
+/**
+ * This class provides Husky Sort for arrays of primitives (int, long and double).
+ * Each element is encoded (perfectly) as a long, the longs are sorted by the same IntroSort as PureHuskySort
+ * (but with no parallel array of objects), and then the longs are decoded back into the original array.
+ * Since the coding is perfect, there is never a second pass.
+ * <p>
+ * NOTE: a long[] is sorted in place; an int[] or double[] requires one long[] of the same length as workspace.
+ * The double coding is order-preserving and invertible, and agrees with Arrays.sort(double[]):
+ * -0.0 precedes 0.0 and NaN follows positive infinity.
+ */
+public final class PrimitiveHuskySort {
+
+    public static void main(final String[] args) {
+
+        final int N = 1000000;
+        final int m = 100;
+        logger.info("PrimitiveHuskySort.main: sorting " + N + " random doubles " + m + " times");
+        final Random random = new Random();
+        for (int i = 0; i < m; i++) {
+            final double[] xs = random.doubles(N).toArray();
+            sort(xs);
+        }
+        logger.info("PrimitiveHuskySort.main: finished");
+    }
+
+    /**
+     * Sort an array of longs.
+     *
+     * @param xs the array to be sorted.
+     */
+    public static void sort(final long[] xs) {
+        introSort(xs, 0, xs.length, 2 * PureHuskySort.floor_lg(xs.length));
+    }
+
+    /**
+     * Sort an array of ints.
+     *
+     * @param xs the array to be sorted.
+     */
+    public static void sort(final int[] xs) {
+        final int n = xs.length;
+        final long[] longs = new long[n];
+        for (int i = 0; i < n; i++) longs[i] = xs[i];
+        sort(longs);
+        for (int i = 0; i < n; i++) xs[i] = (int) longs[i];
+    }
+
+    /**
+     * Sort an array of doubles.
+     *
+     * @param xs the array to be sorted.
+     */
+    public static void sort(final double[] xs) {
+        final int n = xs.length;
+        final long[] longs = new long[n];
+        for (int i = 0; i < n; i++) longs[i] = doubleToLong(xs[i]);
+        sort(longs);
+        for (int i = 0; i < n; i++) xs[i] = longToDouble(longs[i]);
+    }
+
+    /**
+     * Method to encode a double as a long such that the order of the longs matches the order of Double.compare.
+     * For negative values, all bits other than the sign bit are inverted.
+     * This transformation is its own inverse (see longToDouble).
+     *
+     * @param x a double.
+     * @return the corresponding long.
+     */
+    static long doubleToLong(final double x) {
+        final long bits = Double.doubleToLongBits(x);
+        return bits ^ (bits >> 63 & Long.MAX_VALUE);
+    }
+
+    /**
+     * Method to decode a long (as produced by doubleToLong) to a double.
+     *
+     * @param x a long.
+     * @return the corresponding double.
+     */
+    static double longToDouble(final long x) {
+        return Double.longBitsToDouble(x ^ (x >> 63 & Long.MAX_VALUE));
+    }
+
+    // NOTE: this is the same algorithm as PureHuskySort.introSort, but without the objects.
+    static void introSort(final long[] longs, final int from, final int to, final int depthThreshold) {
+        if (to - from <= PureHuskySort.sizeThreshold + 1) {
+            insertionSort(longs, from, to);
+            return;
+        }
+        if (depthThreshold == 0) {
+            heapSort(longs, from, to);
+            return;
+        }
+
+        final int lo = from;
+        final int hi = to - 1;
+
+        if (longs[hi] < longs[lo]) swap(longs, lo, hi);
+
+        int lt = lo + 1, gt = hi - 1;
+        int i = lo + 1;
+        while (i <= gt) {
+            if (longs[i] < longs[lo]) swap(longs, lt++, i++);
+            else if (longs[hi] < longs[i]) swap(longs, i, gt--);
+            else i++;
+        }
+        swap(longs, lo, --lt);
+        swap(longs, hi, ++gt);
+        introSort(longs, lo, lt, depthThreshold - 1);
+        if (longs[lt] < longs[gt]) introSort(longs, lt + 1, gt, depthThreshold - 1);
+        introSort(longs, gt + 1, hi + 1, depthThreshold - 1);
+    }
+
+    private static void heapSort(final long[] longs, final int from, final int to) {
+        final int n = to - from;
+        for (int i = n / 2; i >= 1; i = i - 1) {
+            downHeap(longs, i, n, from);
+        }
+        for (int i = n; i > 1; i = i - 1) {
+            swap(longs, from, from + i - 1);
+            downHeap(longs, 1, i - 1, from);
+        }
+    }
+
+    private static void downHeap(final long[] longs, int i, final int n, final int lo) {
+        final long d = longs[lo + i - 1];
+        int child;
+        while (i <= n / 2) {
+            child = 2 * i;
+            if (child < n && longs[lo + child - 1] < longs[lo + child]) child++;
+            if (d >= longs[lo + child - 1]) break;
+            longs[lo + i - 1] = longs[lo + child - 1];
+            i = child;
+        }
+        longs[lo + i - 1] = d;
+    }
+
+    private static void insertionSort(final long[] longs, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final long x = longs[i];
+            int j = i;
+            for (; j > from && x < longs[j - 1]; j--) longs[j] = longs[j - 1];
+            longs[j] = x;
+        }
+    }
+
+    private static void swap(final long[] longs, final int i, final int j) {
+        final long temp = longs[i];
+        longs[i] = longs[j];
+        longs[j] = temp;
+    }
+
+    private final static LazyLogger logger = new LazyLogger(PrimitiveHuskySort.class);
+}
@@ -3,18 +3,20 @@ package edu.neu.coe.huskySort.sort.huskySort;
 import edu.neu.coe.huskySort.sort.huskySortUtils.Coding;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyPermutation;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyRunSorter;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
-import edu.neu.coe.huskySort.sort.simple.InsertionSort;
 import edu.neu.coe.huskySort.util.LazyLogger;
 
-import java.text.Collator;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 
 import static java.util.Arrays.binarySearch;
 
 /**
- * This class represents the purest form of Husky Sort based on IntroSort for pass 1 and the System sort for pass 2.
+ * This class represents the purest form of Husky Sort based on IntroSort for pass 1 and the System sort for pass 2
+ * (applied only to runs of equal husky codes, see HuskyRunSorter).
  * This class does not use Helper functions, nor does it extends Sort[X] in order that it is as fast as possible.
  * <p>
  * CONSIDER redefining all of the "to" parameters to be consistent with our other Sort utilities.
@@ -47,46 +49,111 @@ public class PureHuskySort<X extends Comparable<X>> {
         // This is necessary if we might be sorting a pre-sorted array. Otherwise, we usually don't need it.
         if (mayBeSorted) Collections.shuffle(Arrays.asList(xs));
         // NOTE: First pass where we code to longs and sort according to those.
-        final Coding coding = huskyCoder.huskyEncode(xs);
+        final Coding coding = parallelEncoding ? huskyCoder.huskyEncodeParallel(xs) : huskyCoder.huskyEncode(xs);
         final long[] longs = coding.longs;
-        introSort(xs, longs, 0, longs.length, 2 * floor_lg(xs.length));
+        if (useIndexPermutation) HuskyPermutation.sort(xs, longs, 0, longs.length);
+        else introSort(xs, longs, 0, longs.length, 2 * floor_lg(xs.length));
 
         // NOTE: Second pass (if required) to fix any remaining inversions.
         if (coding.perfect)
             return;
         if (useInsertionSort)
-            new InsertionSort<X>().mutatingSort(xs);
-        else {
-            final Collator collator = huskyCoder.getCollator();
-            if (collator == null) Arrays.sort(xs);
-            else Arrays.sort(xs, collator);
+            // NOTE: the comparator is consulted only where the husky codes do not already determine the order.
+            HuskyRunSorter.insertionSort(xs, longs, huskyCoder.getCollator(), huskyCoder.monotone());
+        else
+            // NOTE: only runs of equal codes are sorted (unless the coder is not monotone and an inversion remains between runs).
+            HuskyRunSorter.sort(xs, longs, huskyCoder);
+    }
+
+    /**
+     * Partial sort method: on return, the first k elements of xs are the k smallest elements, in order.
+     * The remaining elements are in no particular order.
+     * <p>
+     * The first pass uses quickselect on the husky codes to isolate the k smallest codes,
+     * together with any other elements which share the k-th code.
+     * Only that prefix is sorted by code and, if the coding is not perfect, mopped up by the comparator.
+     * If the coder is not monotone, the result is verified against the rest of the array (in linear time)
+     * and, should that check fail, the whole array is sorted.
+     *
+     * @param xs the array to be partially sorted.
+     * @param k  the number of elements required (if k &ge; xs.length, xs is completely sorted).
+     */
+    public void sortTopK(final X[] xs, final int k) {
+        final int n = xs.length;
+        if (k >= n) {
+            sort(xs);
+            return;
         }
+        if (k <= 0) return;
+        if (mayBeSorted) Collections.shuffle(Arrays.asList(xs));
+        final Coding coding = parallelEncoding ? huskyCoder.huskyEncodeParallel(xs) : huskyCoder.huskyEncode(xs);
+        final long[] longs = coding.longs;
+        select(xs, longs, 0, n, k - 1);
+        // NOTE: gather any other elements which share the k-th code, since the mop-up may move them into the first k.
+        final long code = longs[k - 1];
+        int m = k;
+        for (int i = k; i < n; i++) if (longs[i] == code) swap(xs, longs, i, m++);
+        introSort(xs, longs, 0, m, 2 * floor_lg(m));
+
+        if (coding.perfect)
+            return;
+        final Comparator<? super X> comparator = huskyCoder.getCollator();
+        HuskyRunSorter.sort(xs, longs, 0, m, comparator, huskyCoder.monotone());
+        if (!huskyCoder.monotone() && !prefixIsSmallest(xs, m, comparator))
+            Arrays.sort(xs, comparator);
     }
 
     /**
      * Primary constructor.
      *
-     * @param huskyCoder       the Husky coder to be used for the encoding into longs.
-     * @param mayBeSorted      if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
+     * @param huskyCoder          the Husky coder to be used for the encoding into longs.
+     * @param mayBeSorted         if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
      *                                                                         NOTE: that even though we are using IntroSort, the random shuffle precaution is necessary when
-     * @param useInsertionSort if true, then insertion sort will be used to mop up remaining inversions instead of system sort.
+     * @param useInsertionSort    if true, then insertion sort will be used to mop up remaining inversions instead of system sort.
+     * @param parallelEncoding    if true, then the encoding into longs will be performed by huskyEncodeParallel.
+     * @param useIndexPermutation if true, then the first pass sorts (code, index) pairs and permutes xs only once at the end (see HuskyPermutation).
      */
-    public PureHuskySort(final HuskyCoder<X> huskyCoder, final boolean mayBeSorted, final boolean useInsertionSort) {
+    public PureHuskySort(final HuskyCoder<X> huskyCoder, final boolean mayBeSorted, final boolean useInsertionSort, final boolean parallelEncoding, final boolean useIndexPermutation) {
         this.huskyCoder = huskyCoder;
         this.mayBeSorted = mayBeSorted;
         this.useInsertionSort = useInsertionSort;
+        this.parallelEncoding = parallelEncoding;
+        this.useIndexPermutation = useIndexPermutation;
+    }
+
+    /**
+     * Secondary constructor (without index permutation).
+     *
+     * @param huskyCoder       the Husky coder to be used for the encoding into longs.
+     * @param mayBeSorted      if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
+     * @param useInsertionSort if true, then insertion sort will be used to mop up remaining inversions instead of system sort.
+     * @param parallelEncoding if true, then the encoding into longs will be performed by huskyEncodeParallel.
+     */
+    public PureHuskySort(final HuskyCoder<X> huskyCoder, final boolean mayBeSorted, final boolean useInsertionSort, final boolean parallelEncoding) {
+        this(huskyCoder, mayBeSorted, useInsertionSort, parallelEncoding, false);
+    }
+
+    /**
+     * Secondary constructor (without parallel encoding).
+     *
+     * @param huskyCoder       the Husky coder to be used for the encoding into longs.
+     * @param mayBeSorted      if this is true, then we should perform a random shuffle to prevent an O(N*N) performance.
+     * @param useInsertionSort if true, then insertion sort will be used to mop up remaining inversions instead of system sort.
+     */
+    public PureHuskySort(final HuskyCoder<X> huskyCoder, final boolean mayBeSorted, final boolean useInsertionSort) {
+        this(huskyCoder, mayBeSorted, useInsertionSort, false);
     }
 
     // CONSIDER invoke method in IntroSort
-    private static int floor_lg(final int a) {
+    static int floor_lg(final int a) {
         return (int) (Math.floor(Math.log(a) / Math.log(2)));
     }
 
-    private static final int sizeThreshold = 16;
+    static final int sizeThreshold = 16;
 
     // TEST
     @SuppressWarnings({"UnnecessaryLocalVariable"})
-    private void introSort(final X[] objects, final long[] longs, final int from, final int to, final int depthThreshold) {
+    static <T extends Comparable<T>> void introSort(final T[] objects, final long[] longs, final int from, final int to, final int depthThreshold) {
         // CONSIDER merge with IntroHuskySort
         if (to - from <= sizeThreshold + 1) {
             insertionSort(objects, longs, from, to);
@@ -116,6 +183,52 @@ public class PureHuskySort<X extends Comparable<X>> {
         introSort(objects, longs, gt + 1, hi + 1, depthThreshold - 1);
     }
 
+    /**
+     * Method to rearrange the elements of objects (and the corresponding longs) from "from" until "to" (exclusive)
+     * such that the element at index k has the code it would have if the range were sorted,
+     * no element to its left has a greater code, and no element to its right has a lesser code.
+     * If quickselect makes insufficient progress, the range is heap-sorted instead.
+     *
+     * @param objects the X array.
+     * @param longs   the long array.
+     * @param from    the index of the first element.
+     * @param to      the index of the first element not to be considered.
+     * @param k       the index (from &le; k &lt; to) of the element to be selected.
+     */
+    static <T extends Comparable<T>> void select(final T[] objects, final long[] longs, int from, int to, final int k) {
+        int depthThreshold = 2 * floor_lg(to - from);
+        while (to - from > sizeThreshold + 1) {
+            if (depthThreshold-- == 0) {
+                heapSort(objects, longs, from, to);
+                return;
+            }
+            final long pivot = median(longs[from], longs[(from + to) >>> 1], longs[to - 1]);
+            int lt = from, gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                if (longs[i] < pivot) swap(objects, longs, lt++, i++);
+                else if (longs[i] > pivot) swap(objects, longs, i, gt--);
+                else i++;
+            }
+            // NOTE: now, longs[from..lt-1] < pivot, longs[lt..gt] == pivot, and longs[gt+1..to-1] > pivot.
+            if (k < lt) to = lt;
+            else if (k > gt) from = gt + 1;
+            else return;
+        }
+        insertionSort(objects, longs, from, to);
+    }
+
+    private static long median(final long a, final long b, final long c) {
+        return a < b ? (b < c ? b : Math.max(a, c)) : (a < c ? a : Math.max(b, c));
+    }
+
+    private static <T extends Comparable<T>> boolean prefixIsSmallest(final T[] xs, final int m, final Comparator<? super T> comparator) {
+        final Comparator<? super T> c = comparator != null ? comparator : Comparator.<T>naturalOrder();
+        final T max = xs[m - 1];
+        for (int i = m; i < xs.length; i++) if (c.compare(xs[i], max) < 0) return false;
+        return true;
+    }
+
     // TEST
     private static <T extends Comparable<T>> void heapSort(final T[] objects, final long[] longs, final int from, final int to) {
         // CONSIDER removing these size checks. They haven't really been tested.
@@ -168,7 +281,7 @@ public class PureHuskySort<X extends Comparable<X>> {
      * @param i     the index of one element to be swapped.
      * @param j     the index of the other element to be swapped.
      */
-    private static <T extends Comparable<T>> void swap(final T[] xs, final long[] longs, final int i, final int j) {
+    static <T extends Comparable<T>> void swap(final T[] xs, final long[] longs, final int i, final int j) {
         // Swap longs
         final long temp1 = longs[i];
         longs[i] = longs[j];
@@ -226,6 +339,8 @@ public class PureHuskySort<X extends Comparable<X>> {
     private final HuskyCoder<X> huskyCoder;
     private final boolean mayBeSorted;
     private final boolean useInsertionSort;
+    private final boolean parallelEncoding;
+    private final boolean useIndexPermutation;
 
     private final static LazyLogger logger = new LazyLogger(PureHuskySort.class);
 }
@@ -0,0 +1,142 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySortUtils.Coding;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyRunSorter;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.util.Arrays;
+
+/**
+ * This version of (Pure) Husky Sort uses an LSD radix sort of the husky codes (rather than a comparison sort) for the first pass.
+ * The Xs are not moved during the first pass: instead, an index permutation is sorted along with the longs,
+ * and that permutation is applied to the Xs once, at the end of the first pass.
+ * Any digit which has the same value for every code is skipped.
+ * Mopping up (the last phase of HuskySort) is performed by the System sort, applied only to runs of equal codes.
+ *
+ * @param <X> the underlying type to be sorted.
+ */
+public class RadixHuskySort<X extends Comparable<X>> {
+
+    public static void main(final String[] args) {
+
+        final int N = 50000;
+        final int m = 10000;
+        logger.info("RadixHuskySort.main: sorting " + N + " random alphabetic ASCII words " + m + " times");
+        final RadixHuskySort<String> sorter = new RadixHuskySort<>(HuskyCoderFactory.asciiCoder);
+        for (int i = 0; i < m; i++) {
+            final String[] alphaBetaArray = HuskySortHelper.generateRandomAlphaBetaArray(N, 4, 9);
+            sorter.sort(alphaBetaArray);
+        }
+        logger.info("RadixHuskySort.main: finished");
+    }
+
+    /**
+     * The main sort method.
+     *
+     * @param xs the array to be sorted.
+     */
+    public void sort(final X[] xs) {
+        // NOTE: First pass where we code to longs and radix-sort according to those.
+        final Coding coding = huskyCoder.huskyEncode(xs);
+        final int n = xs.length;
+        if (n > 1) {
+            // NOTE: coding.longs is sorted in place so that it remains aligned with xs.
+            final int[] index = radixSort(coding.longs, bitsPerDigit);
+            final X[] copy = Arrays.copyOf(xs, n);
+            for (int i = 0; i < n; i++) xs[i] = copy[index[i]];
+        }
+
+        // NOTE: Second pass (if required) to fix any remaining inversions.
+        if (coding.perfect)
+            return;
+        HuskyRunSorter.sort(xs, coding.longs, huskyCoder);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param huskyCoder   the Husky coder to be used for the encoding into longs.
+     * @param bitsPerDigit the number of bits in each digit of the radix sort (between 1 and 16).
+     */
+    public RadixHuskySort(final HuskyCoder<X> huskyCoder, final int bitsPerDigit) {
+        if (bitsPerDigit < 1 || bitsPerDigit > 16)
+            throw new SortException("RadixHuskySort: bitsPerDigit must be between 1 and 16: " + bitsPerDigit);
+        this.huskyCoder = huskyCoder;
+        this.bitsPerDigit = bitsPerDigit;
+    }
+
+    /**
+     * Secondary constructor which uses 11-bit digits (i.e. six passes at most).
+     *
+     * @param huskyCoder the Husky coder to be used for the encoding into longs.
+     */
+    public RadixHuskySort(final HuskyCoder<X> huskyCoder) {
+        this(huskyCoder, DEFAULT_BITS_PER_DIGIT);
+    }
+
+    /**
+     * Method to perform an LSD radix sort on the given array of longs (which is sorted in place).
+     * The resulting permutation is returned, such that index[i] is the original position of the long now at i.
+     * <p>
+     * NOTE: the histograms for all digits are built in one pass over the longs.
+     * Any digit which takes the same value for all longs is skipped.
+     *
+     * @param longs        the (signed) longs to be sorted.
+     * @param bitsPerDigit the number of bits in each digit.
+     * @return the index permutation.
+     */
+    static int[] radixSort(final long[] longs, final int bitsPerDigit) {
+        final int n = longs.length;
+        final int radix = 1 << bitsPerDigit;
+        final int mask = radix - 1;
+        final int digits = (Long.SIZE + bitsPerDigit - 1) / bitsPerDigit;
+        final int[][] counts = new int[digits][radix + 1];
+        for (final long x : longs) {
+            // NOTE: flip the sign bit so that negative codes are ordered before positive codes.
+            final long key = x ^ Long.MIN_VALUE;
+            for (int d = 0; d < digits; d++) counts[d][(int) (key >>> d * bitsPerDigit & mask) + 1]++;
+        }
+        long[] ls = longs;
+        long[] lsAux = new long[n];
+        int[] index = new int[n];
+        int[] indexAux = new int[n];
+        for (int i = 0; i < n; i++) index[i] = i;
+        for (int d = 0; d < digits; d++) {
+            final int[] count = counts[d];
+            if (isConstantDigit(count, n)) continue;
+            for (int r = 0; r < radix; r++) count[r + 1] += count[r];
+            final int shift = d * bitsPerDigit;
+            for (int i = 0; i < n; i++) {
+                final long x = ls[i];
+                final int j = count[(int) ((x ^ Long.MIN_VALUE) >>> shift & mask)]++;
+                lsAux[j] = x;
+                indexAux[j] = index[i];
+            }
+            final long[] lsTemp = ls;
+            ls = lsAux;
+            lsAux = lsTemp;
+            final int[] indexTemp = index;
+            index = indexAux;
+            indexAux = indexTemp;
+        }
+        if (ls != longs) System.arraycopy(ls, 0, longs, 0, n);
+        return index;
+    }
+
+    private static boolean isConstantDigit(final int[] count, final int n) {
+        for (final int c : count)
+            if (c == n) return true;
+        return false;
+    }
+
+    static final int DEFAULT_BITS_PER_DIGIT = 11;
+
+    private final HuskyCoder<X> huskyCoder;
+    private final int bitsPerDigit;
+
+    private final static LazyLogger logger = new LazyLogger(RadixHuskySort.class);
+}
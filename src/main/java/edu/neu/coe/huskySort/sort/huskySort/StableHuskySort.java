@@ -0,0 +1,164 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.Coding;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyRunSorter;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyWorkspace;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.util.Comparator;
+
+/**
+ * This version of Husky Sort is stable: elements which compare as equal retain their original relative order.
+ * It can therefore be used for multi-key sorting of records (sort by the least significant key first).
+ * <p>
+ * The first pass is a stable merge sort of the husky codes (the Xs are moved collaterally).
+ * Elements with equal codes are never reordered relative to one another, so each run of equal codes is left in input order.
+ * The second pass (if the coding is not perfect) sorts each run of equal codes with the (stable) System sort
+ * and, if the coder is not monotone and an inversion remains between runs, the whole array is then sorted by the System sort
+ * (see HuskyRunSorter).
+ * <p>
+ * NOTE: the stability guarantee requires that elements which compare as equal have equal husky codes,
+ * i.e. that the code is a function of the sort key only. This is true of all the coders in HuskyCoderFactory.
+ *
+ * @param <X> the underlying type to be sorted.
+ */
+public class StableHuskySort<X extends Comparable<X>> {
+
+    public static void main(final String[] args) {
+
+        final int N = 50000;
+        final int m = 10000;
+        logger.info("StableHuskySort.main: sorting " + N + " random alphabetic ASCII words " + m + " times");
+        final StableHuskySort<String> sorter = new StableHuskySort<>(HuskyCoderFactory.asciiCoder);
+        for (int i = 0; i < m; i++) {
+            final String[] alphaBetaArray = HuskySortHelper.generateRandomAlphaBetaArray(N, 4, 9);
+            sorter.sort(alphaBetaArray);
+        }
+        logger.info("StableHuskySort.main: finished");
+    }
+
+    /**
+     * The main sort method.
+     *
+     * @param xs the array to be sorted.
+     */
+    public void sort(final X[] xs) {
+        final HuskyWorkspace workspace = this.workspace != null ? this.workspace : HuskyWorkspace.forCurrentThread();
+        final int n = xs.length;
+        // NOTE: First pass where we code to longs and (stably) sort according to those.
+        final Coding coding = huskyCoder.huskyEncode(xs, workspace.getLongs(n));
+        final long[] longs = coding.longs;
+        // NOTE: this cast is safe because X is erased (see HuskyWorkspace.getXsAux).
+        @SuppressWarnings("unchecked") final X[] xsAux = (X[]) workspace.getXsAux(n);
+        System.arraycopy(xs, 0, xsAux, 0, n);
+        final long[] longsAux = workspace.getLongsAux(n);
+        System.arraycopy(longs, 0, longsAux, 0, n);
+        mergeSort(xsAux, longsAux, xs, longs, 0, n);
+        workspace.releaseXsAux(n);
+
+        // NOTE: Second pass (if required) to fix any remaining inversions.
+        // The multi-level mop-up is not used here because it is not stable.
+        if (coding.perfect)
+            return;
+        HuskyRunSorter.sort(xs, longs, comparator, huskyCoder.monotone());
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param huskyCoder the Husky coder to be used for the encoding into longs.
+     * @param comparator the comparator which defines the order of X (if null, the natural order is used).
+     *                   The husky coder must be consistent with this comparator.
+     * @param workspace  the workspace to be used for the scratch arrays (if null, the workspace of the current thread is used).
+     *                   NOTE: a sorter with an explicit workspace must not be used by more than one thread at a time.
+     */
+    public StableHuskySort(final HuskyCoder<X> huskyCoder, final Comparator<? super X> comparator, final HuskyWorkspace workspace) {
+        this.huskyCoder = huskyCoder;
+        this.comparator = comparator;
+        this.workspace = workspace;
+    }
+
+    /**
+     * Secondary constructor which uses the workspace of the current thread.
+     *
+     * @param huskyCoder the Husky coder to be used for the encoding into longs.
+     * @param comparator the comparator which defines the order of X (if null, the natural order is used).
+     *                   The husky coder must be consistent with this comparator.
+     */
+    public StableHuskySort(final HuskyCoder<X> huskyCoder, final Comparator<? super X> comparator) {
+        this(huskyCoder, comparator, null);
+    }
+
+    /**
+     * Secondary constructor which uses the collator of the husky coder (if any) or else the natural order of X.
+     *
+     * @param huskyCoder the Husky coder to be used for the encoding into longs.
+     */
+    public StableHuskySort(final HuskyCoder<X> huskyCoder) {
+        this(huskyCoder, huskyCoder.getCollator());
+    }
+
+    /**
+     * Stable merge sort of xsSrc/lsSrc into xsDst/lsDst, from "from" until "to" (exclusive), by the longs.
+     * On entry, the src and dst arrays have identical contents in the given range.
+     * The roles of src and dst alternate at each level of recursion, so that the elements are copied only once per level.
+     *
+     * @param xsSrc the X array which is used as the source for the merge.
+     * @param lsSrc the long array which is used as the source for the merge.
+     * @param xsDst the X array which will be ordered on return.
+     * @param lsDst the long array which will be ordered on return.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     */
+    static <T> void mergeSort(final T[] xsSrc, final long[] lsSrc, final T[] xsDst, final long[] lsDst, final int from, final int to) {
+        if (to - from <= cutoff) {
+            insertionSort(xsDst, lsDst, from, to);
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(xsDst, lsDst, xsSrc, lsSrc, from, mid);
+        mergeSort(xsDst, lsDst, xsSrc, lsSrc, mid, to);
+        // NOTE: if the two halves are already in order, then we just copy them.
+        if (lsSrc[mid - 1] <= lsSrc[mid]) {
+            System.arraycopy(xsSrc, from, xsDst, from, to - from);
+            System.arraycopy(lsSrc, from, lsDst, from, to - from);
+            return;
+        }
+        int i = from, j = mid;
+        for (int k = from; k < to; k++)
+            // NOTE: the left element is taken when the codes are equal: this is what makes the sort stable.
+            if (j >= to || i < mid && lsSrc[i] <= lsSrc[j]) {
+                xsDst[k] = xsSrc[i];
+                lsDst[k] = lsSrc[i++];
+            } else {
+                xsDst[k] = xsSrc[j];
+                lsDst[k] = lsSrc[j++];
+            }
+    }
+
+    private static <T> void insertionSort(final T[] xs, final long[] ls, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final long l = ls[i];
+            final T x = xs[i];
+            int j = i;
+            // NOTE: strict comparison so that equal codes are never moved past one another.
+            for (; j > from && l < ls[j - 1]; j--) {
+                ls[j] = ls[j - 1];
+                xs[j] = xs[j - 1];
+            }
+            ls[j] = l;
+            xs[j] = x;
+        }
+    }
+
+    private static final int cutoff = 12;
+
+    private final HuskyCoder<X> huskyCoder;
+    private final Comparator<? super X> comparator;
+    private final HuskyWorkspace workspace;
+
+    private final static LazyLogger logger = new LazyLogger(StableHuskySort.class);
+}
@@ -0,0 +1,137 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyPermutation;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyUtf8Coder;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This class performs HuskySort on UTF-8 keys without creating any String objects,
+ * using the (monotone) HuskyUtf8Coder.
+ * The keys may be either separate byte arrays or (offset, length) slices of a single shared buffer
+ * (e.g. the contents of a file read from disk).
+ * <p>
+ * The resulting order is the unsigned lexicographic order of the bytes (see HuskyUtf8Coder).
+ * <p>
+ * Slices are sorted by an LSD radix sort of their codes (see RadixHuskySort), which moves only the offsets and lengths.
+ * Each run of equal codes is then re-encoded from the next eight bytes and sorted in the same way,
+ * until the run is small enough for an insertion sort (or its keys have been completely encoded).
+ */
+public final class Utf8HuskySort {
+
+    public static void main(final String[] args) {
+
+        final int N = 1000000;
+        final int m = 20;
+        logger.info("Utf8HuskySort.main: sorting " + N + " random alphabetic ASCII words (as slices of one buffer) " + m + " times");
+        for (int i = 0; i < m; i++) {
+            final String[] words = HuskySortHelper.generateRandomAlphaBetaArray(N, 4, 9);
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            final int[] offsets = new int[N];
+            final int[] lengths = new int[N];
+            for (int j = 0; j < N; j++) {
+                final byte[] bytes = words[j].getBytes(StandardCharsets.UTF_8);
+                offsets[j] = stream.size();
+                lengths[j] = bytes.length;
+                stream.writeBytes(bytes);
+            }
+            sort(stream.toByteArray(), offsets, lengths);
+        }
+        logger.info("Utf8HuskySort.main: finished");
+    }
+
+    /**
+     * Method to sort an array of byte arrays (in unsigned lexicographic order).
+     *
+     * @param xs the array to be sorted.
+     */
+    public static void sort(final byte[][] xs) {
+        final int n = xs.length;
+        final long[] longs = new long[n];
+        HuskyUtf8Coder.huskyEncode(xs, longs);
+        HuskyPermutation.sort(xs, longs, 0, n);
+        // NOTE: since the coder is monotone, only runs of equal codes can be out of order.
+        int i = 0;
+        while (i < n) {
+            int j = i + 1;
+            while (j < n && longs[j] == longs[i]) j++;
+            if (j - i > 1) Arrays.sort(xs, i, j, Arrays::compareUnsigned);
+            i = j;
+        }
+    }
+
+    /**
+     * Method to sort slices of a buffer (in unsigned lexicographic order of their bytes).
+     * The slices are defined by corresponding elements of offsets and lengths, both of which are permuted.
+     * The buffer itself is not changed.
+     *
+     * @param bytes   the buffer.
+     * @param offsets the offsets of the slices.
+     * @param lengths the lengths of the slices.
+     */
+    public static void sort(final byte[] bytes, final int[] offsets, final int[] lengths) {
+        final int n = offsets.length;
+        final long[] longs = new long[n];
+        for (int i = 0; i < n; i++) longs[i] = HuskyUtf8Coder.huskyEncode(bytes, offsets[i], lengths[i]);
+        sort(bytes, offsets, lengths, longs, 0, n, 0);
+    }
+
+    private static void sort(final byte[] bytes, final int[] offsets, final int[] lengths, final long[] longs, final int from, final int to, final int depth) {
+        if (to - from <= sizeThreshold) {
+            insertionSort(bytes, offsets, lengths, from, to, depth);
+            return;
+        }
+        final long[] codes = Arrays.copyOfRange(longs, from, to);
+        final int[] index = RadixHuskySort.radixSort(codes, RadixHuskySort.DEFAULT_BITS_PER_DIGIT);
+        final int[] offsetsCopy = Arrays.copyOfRange(offsets, from, to);
+        final int[] lengthsCopy = Arrays.copyOfRange(lengths, from, to);
+        for (int i = 0; i < codes.length; i++) {
+            longs[from + i] = codes[i];
+            offsets[from + i] = offsetsCopy[index[i]];
+            lengths[from + i] = lengthsCopy[index[i]];
+        }
+        final int next = depth + HuskyUtf8Coder.BYTES_PER_LONG;
+        int i = from;
+        while (i < to) {
+            int j = i + 1;
+            boolean exhausted = lengths[i] <= next;
+            while (j < to && longs[j] == longs[i]) exhausted &= lengths[j++] <= next;
+            if (j - i > 1) {
+                if (exhausted)
+                    // NOTE: these slices can differ only by trailing zero bytes.
+                    insertionSort(bytes, offsets, lengths, i, j, next);
+                else {
+                    for (int k = i; k < j; k++)
+                        longs[k] = HuskyUtf8Coder.huskyEncode(bytes, offsets[k] + Math.min(next, lengths[k]), Math.max(0, lengths[k] - next));
+                    sort(bytes, offsets, lengths, longs, i, j, next);
+                }
+            }
+            i = j;
+        }
+    }
+
+    private static void insertionSort(final byte[] bytes, final int[] offsets, final int[] lengths, final int from, final int to, final int depth) {
+        for (int i = from + 1; i < to; i++) {
+            final int offset = offsets[i];
+            final int length = lengths[i];
+            int j = i;
+            for (; j > from && HuskyUtf8Coder.compare(bytes, offset, length, offsets[j - 1], lengths[j - 1], depth) < 0; j--) {
+                offsets[j] = offsets[j - 1];
+                lengths[j] = lengths[j - 1];
+            }
+            offsets[j] = offset;
+            lengths[j] = length;
+        }
+    }
+
+    private Utf8HuskySort() {
+    }
+
+    private static final int sizeThreshold = 16;
+
+    private final static LazyLogger logger = new LazyLogger(Utf8HuskySort.class);
+}
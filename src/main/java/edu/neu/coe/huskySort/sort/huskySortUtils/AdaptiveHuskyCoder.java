@@ -0,0 +1,175 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.text.Collator;
+import java.util.*;
+
+/**
+ * Husky coder for Strings which chooses the best of several coders according to a sample of the Strings to be sorted.
+ * <p>
+ * The candidates are all coders which sort Strings into their natural order (collator coders are never chosen, since they would change that order):
+ * a range coder (see SequenceEncoder_Range) for the range of characters found in the sample;
+ * a dictionary coder (see SequenceEncoder_Dictionary) for the alphabet found in the sample;
+ * the unicode coder;
+ * and a prefix-skipping coder (see SequenceEncoder_Prefix), provided that the sampled Strings share a common prefix.
+ * <p>
+ * NOTE: the English and ASCII coders are not candidates, even where every sampled character is ASCII:
+ * they report a perfect coding according to length alone, so a String (outside the sample) with any other character would be mis-sorted.
+ * The range and dictionary coders remain monotone for such Strings (and are at least as good for ASCII samples).
+ * The candidate which yields the most distinct codes for the sample is chosen
+ * (where candidates tie, the one which appears first in the above list is preferred).
+ * The choice, together with the number of distinct codes and the entropy of the codes for each candidate, is available from report().
+ * <p>
+ * All other methods simply delegate to the chosen coder.
+ */
+public final class AdaptiveHuskyCoder implements HuskySequenceCoder<String> {
+
+    /**
+     * Method to create an AdaptiveHuskyCoder by sampling (at most DEFAULT_SAMPLE_SIZE elements of) xs.
+     * The sample is chosen deterministically.
+     *
+     * @param xs the Strings to be sorted.
+     * @return an AdaptiveHuskyCoder.
+     */
+    public static AdaptiveHuskyCoder create(final String[] xs) {
+        return create(xs, DEFAULT_SAMPLE_SIZE, new Random(0L));
+    }
+
+    /**
+     * Method to create an AdaptiveHuskyCoder by sampling xs.
+     *
+     * @param xs         the Strings to be sorted.
+     * @param sampleSize the maximum number of elements to sample.
+     * @param random     the source of randomness for the sample.
+     * @return an AdaptiveHuskyCoder.
+     */
+    public static AdaptiveHuskyCoder create(final String[] xs, final int sampleSize, final Random random) {
+        final String[] sample = sample(xs, sampleSize, random);
+        char lo = Character.MAX_VALUE, hi = Character.MIN_VALUE;
+        for (final String x : sample)
+            for (int i = 0; i < x.length() && i < PREFIX_LENGTH; i++) {
+                final char c = x.charAt(i);
+                if (c < lo) lo = c;
+                if (c > hi) hi = c;
+            }
+        final List<HuskySequenceCoder<String>> candidates = new ArrayList<>();
+        if (lo <= hi) candidates.add(new SequenceEncoder_Range(lo, hi));
+        if (lo <= hi) candidates.add(SequenceEncoder_Dictionary.create(sample));
+        candidates.add(HuskyCoderFactory.unicodeCoder);
+        if (!SequenceEncoder_Prefix.longestCommonPrefix(sample).isEmpty()) candidates.add(SequenceEncoder_Prefix.create(sample));
+
+        final StringBuilder report = new StringBuilder();
+        HuskySequenceCoder<String> best = null;
+        int bestDistinct = -1;
+        for (final HuskySequenceCoder<String> candidate : candidates) {
+            final Map<Long, Integer> frequencies = new HashMap<>();
+            for (final String x : sample) frequencies.merge(candidate.huskyEncode(x), 1, Integer::sum);
+            final int distinct = frequencies.size();
+            report.append(String.format("; %s: %d distinct codes, entropy %.2f bits", candidate.name(), distinct, entropy(frequencies.values(), sample.length)));
+            if (distinct > bestDistinct) {
+                best = candidate;
+                bestDistinct = distinct;
+            }
+        }
+        final AdaptiveHuskyCoder result = new AdaptiveHuskyCoder(best, "chose " + best.name() + " from a sample of " + sample.length + report);
+        logger.info("AdaptiveHuskyCoder: " + result.report());
+        return result;
+    }
+
+    /**
+     * @return the coder which was chosen.
+     */
+    public HuskySequenceCoder<String> getCoder() {
+        return coder;
+    }
+
+    /**
+     * @return a description of the choice of coder (and of the alternatives).
+     */
+    public String report() {
+        return report;
+    }
+
+    public String name() {
+        return "Adaptive(" + coder.name() + ")";
+    }
+
+    public long huskyEncode(final String x) {
+        return coder.huskyEncode(x);
+    }
+
+    @Override
+    public Coding huskyEncode(final String[] xs) {
+        return coder.huskyEncode(xs);
+    }
+
+    @Override
+    public Coding huskyEncode(final String[] xs, final long[] longs) {
+        return coder.huskyEncode(xs, longs);
+    }
+
+    @Override
+    public boolean huskyEncode(final String[] xs, final long[] longs, final int from, final int to) {
+        return coder.huskyEncode(xs, longs, from, to);
+    }
+
+    @Override
+    public Coding huskyEncodeParallel(final String[] xs) {
+        return coder.huskyEncodeParallel(xs);
+    }
+
+    @Override
+    public Coding huskyEncodeParallel(final String[] xs, final long[] longs) {
+        return coder.huskyEncodeParallel(xs, longs);
+    }
+
+    @Override
+    public Collator getCollator() {
+        return coder.getCollator();
+    }
+
+    @Override
+    public boolean perfect() {
+        return coder.perfect();
+    }
+
+    @Override
+    public boolean monotone() {
+        return coder.monotone();
+    }
+
+    public boolean perfectForLength(final int length) {
+        return coder.perfectForLength(length);
+    }
+
+    static String[] sample(final String[] xs, final int sampleSize, final Random random) {
+        if (xs.length <= sampleSize) return xs;
+        final String[] result = new String[sampleSize];
+        for (int i = 0; i < sampleSize; i++) result[i] = xs[random.nextInt(xs.length)];
+        return result;
+    }
+
+    private static double entropy(final Collection<Integer> frequencies, final int n) {
+        double result = 0;
+        for (final int f : frequencies) {
+            final double p = (double) f / n;
+            result -= p * Math.log(p) / Math.log(2);
+        }
+        return result;
+    }
+
+    private AdaptiveHuskyCoder(final HuskySequenceCoder<String> coder, final String report) {
+        this.coder = coder;
+        this.report = report;
+    }
+
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+    // NOTE: only the first few characters of each String can affect its code.
+    private static final int PREFIX_LENGTH = 16;
+
+    private final HuskySequenceCoder<String> coder;
+    private final String report;
+
+    private final static LazyLogger logger = new LazyLogger(AdaptiveHuskyCoder.class);
+}
@@ -18,14 +18,26 @@ public abstract class BaseHuskySequenceCoder<X extends CharSequence> implements
     }
 
     /**
-     * Constructor.
+     * Primary constructor.
      *
      * @param name      the name of this coder.
      * @param maxLength the maximum length of a sequence which can be perfectly encoded.
+     * @param monotone  true if the encoding never contradicts the natural ordering of X.
      */
-    public BaseHuskySequenceCoder(final String name, final int maxLength) {
+    public BaseHuskySequenceCoder(final String name, final int maxLength, final boolean monotone) {
         this.name = name;
         this.maxLength = maxLength;
+        this.monotone = monotone;
+    }
+
+    /**
+     * Constructor for a coder which is not known to be monotone.
+     *
+     * @param name      the name of this coder.
+     * @param maxLength the maximum length of a sequence which can be perfectly encoded.
+     */
+    public BaseHuskySequenceCoder(final String name, final int maxLength) {
+        this(name, maxLength, false);
     }
 
     /**
@@ -43,14 +55,29 @@ public abstract class BaseHuskySequenceCoder<X extends CharSequence> implements
      */
     @Override
     public Coding huskyEncode(final X[] xs) {
-        boolean isPerfect = true;
         final long[] result = new long[xs.length];
-        for (int i = 0; i < xs.length; i++) {
+        final boolean isPerfect = huskyEncode(xs, result, 0, xs.length);
+        return new Coding(result, isPerfect);
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     *
+     * @param xs    an array of X elements.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if every element in the range is no longer than maxLength.
+     */
+    @Override
+    public boolean huskyEncode(final X[] xs, final long[] longs, final int from, final int to) {
+        boolean isPerfect = true;
+        for (int i = from; i < to; i++) {
             final X x = xs[i];
             if (isPerfect) isPerfect = perfectForLength(x.length());
-            result[i] = huskyEncode(x);
+            longs[i] = huskyEncode(x);
         }
-        return new Coding(result, isPerfect);
+        return isPerfect;
     }
 
     /**
@@ -64,6 +91,14 @@ public abstract class BaseHuskySequenceCoder<X extends CharSequence> implements
         return false;
     }
 
+    /**
+     * @return true if this coder was declared to be monotone.
+     */
+    @Override
+    final public boolean monotone() {
+        return monotone;
+    }
+
     @Override
     final public String toString() {
         return "BaseHuskySequenceCoder{" +
@@ -73,4 +108,5 @@ public abstract class BaseHuskySequenceCoder<X extends CharSequence> implements
 
     private final String name;
     private final int maxLength;
+    private final boolean monotone;
 }
@@ -53,7 +53,8 @@ public class HuskyBucketHelper<X extends Comparable<X>> extends HuskyHelper<X> {
         long min = Long.MAX_VALUE;
         long max = Long.MIN_VALUE;
         final long[] longs = getLongs();
-        for (final long x : longs) {
+        for (int i = 0; i < xs.length; i++) {
+            final long x = longs[i];
             if (x > max) max = x;
             if (x < min) min = x;
         }
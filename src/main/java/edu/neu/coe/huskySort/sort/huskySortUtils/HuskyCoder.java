@@ -5,6 +5,7 @@ package edu.neu.coe.huskySort.sort.huskySortUtils;
 
 import java.text.CollationKey;
 import java.text.Collator;
+import java.util.stream.IntStream;
 
 /**
  * This interface models the essence of the Husky Sort mechanism.
@@ -57,8 +58,65 @@ public interface HuskyCoder<X> {
      */
     default Coding huskyEncode(final X[] xs) {
         final long[] result = new long[xs.length];
-        for (int i = 0; i < xs.length; i++) result[i] = huskyEncode(xs[i]);
-        return new Coding(result, perfect());
+        final boolean perfect = huskyEncode(xs, result, 0, xs.length);
+        return new Coding(result, perfect);
+    }
+
+    /**
+     * Encode an array of Xs into the given array of longs (which may be longer than xs, see HuskyWorkspace).
+     *
+     * @param xs    an array of X elements.
+     * @param longs the array of longs into which the codes will be placed: its length must be at least that of xs.
+     * @return a Coding whose longs are the given array.
+     */
+    default Coding huskyEncode(final X[] xs, final long[] longs) {
+        return new Coding(longs, huskyEncode(xs, longs, 0, xs.length));
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     * <p>
+     * NOTE: implementations must be safe to invoke concurrently on disjoint ranges (see huskyEncodeParallel).
+     *
+     * @param xs    an array of X elements.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if the codes for this range of elements are perfect.
+     */
+    default boolean huskyEncode(final X[] xs, final long[] longs, final int from, final int to) {
+        for (int i = from; i < to; i++) longs[i] = huskyEncode(xs[i]);
+        return perfect();
+    }
+
+    /**
+     * Encode an array of Xs, using several threads if xs is large enough to make this worthwhile.
+     * The array is split into chunks, each of which is encoded by huskyEncode(xs, longs, from, to),
+     * and the resulting Coding is perfect only if every chunk is perfect.
+     *
+     * @param xs an array of X elements.
+     * @return a Coding which is identical to the result of huskyEncode(xs).
+     */
+    default Coding huskyEncodeParallel(final X[] xs) {
+        if (xs.length < PARALLEL_ENCODING_THRESHOLD) return huskyEncode(xs);
+        return huskyEncodeParallel(xs, new long[xs.length]);
+    }
+
+    /**
+     * Encode an array of Xs into the given array of longs, using several threads if xs is large enough to make this worthwhile.
+     *
+     * @param xs    an array of X elements.
+     * @param longs the array of longs into which the codes will be placed: its length must be at least that of xs.
+     * @return a Coding whose longs are the given array.
+     */
+    default Coding huskyEncodeParallel(final X[] xs, final long[] longs) {
+        final int n = xs.length;
+        if (n < PARALLEL_ENCODING_THRESHOLD) return huskyEncode(xs, longs);
+        final int chunks = (n + PARALLEL_ENCODING_CHUNK - 1) / PARALLEL_ENCODING_CHUNK;
+        final boolean perfect = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> huskyEncode(xs, longs, c * PARALLEL_ENCODING_CHUNK, Math.min(n, (c + 1) * PARALLEL_ENCODING_CHUNK)))
+                .reduce(true, Boolean::logicalAnd);
+        return new Coding(longs, perfect);
     }
 
     default Collator getCollator() {
@@ -96,4 +154,25 @@ public interface HuskyCoder<X> {
     default boolean perfect() {
         return false;
     }
+
+    /**
+     * Method to determine if this Husky Coder is monotone, that is to say that if x &lt; y, then huskyEncode(x) &le; huskyEncode(y).
+     * If a coder is monotone, then any inversions remaining after the first pass of HuskySort must be between elements with equal codes.
+     *
+     * @return true if the codes never contradict the ordering of X.
+     * By default, this method returns false.
+     */
+    default boolean monotone() {
+        return false;
+    }
+
+    /**
+     * The length of array below which huskyEncodeParallel simply invokes huskyEncode.
+     */
+    int PARALLEL_ENCODING_THRESHOLD = 16384;
+
+    /**
+     * The number of elements encoded by each task in huskyEncodeParallel.
+     */
+    int PARALLEL_ENCODING_CHUNK = 4096;
 }
@@ -36,22 +36,93 @@ public class HuskyCoderChinesePinyin implements HuskyCoder<String> {
         this.dialect = dialect;
     }
 
-    private static long encodeHanyu(final String s) {
+    /**
+     * Method to encode s (in the Hanyu dialect) by table lookup.
+     * The code is identical to that of encodeHanyuParsed, i.e. the English code of the concatenated pinyin tokens of s.
+     * But, rather than converting and parsing the pinyin of s, the (English-coded) token of each character is taken from PinyinTable.
+     * If any character of s has no entry in the table, then s is encoded by encodeHanyuParsed.
+     *
+     * @param s a Chinese String.
+     * @return the husky code of s.
+     */
+    static long encodeHanyu(final String s) {
+        final long[] table = PinyinTable.TABLE;
+        long result = 0L;
+        int fields = 0;
+        for (int i = 0; i < s.length() && fields < FIELDS; i++) {
+            final long entry = table[s.charAt(i)];
+            final int length = (int) (entry & LENGTH_MASK);
+            if (length == 0) return encodeHanyuParsed(s);
+            final int take = Math.min(length, FIELDS - fields);
+            result = result << BIT_WIDTH * take | entry >>> LENGTH_BITS + BIT_WIDTH * (length - take);
+            fields += take;
+        }
+        return result << BIT_WIDTH * (FIELDS - fields);
+    }
+
+    /**
+     * Method to encode s (in the Hanyu dialect) by converting it to pinyin, parsing the pinyin into tokens,
+     * and encoding the concatenated tokens with the English coder.
+     *
+     * @param s a Chinese String.
+     * @return the husky code of s.
+     * @throws SortException if the pinyin of s cannot be parsed into one token per character.
+     */
+    static long encodeHanyuParsed(final String s) {
         final String[] tokens = ChineseCharacter.parsePinyin(ChineseCharacter.convertToPinyin(s), s.length());
         final StringBuilder result = new StringBuilder();
         for (final String token : tokens)
-            if (token != null) {
-                if (token.endsWith("ü"))
-                    // TODO sort this out.
-                    result.append(token.substring(0, token.length() - 1)).append('~');
-                else result.append(token);
-
-            }
+            if (token != null) result.append(normalize(token));
         final String pinyin = result.toString();
         final HuskySequenceCoder<String> coder = HuskyCoderFactory.englishCoder;
         return coder.huskyEncode(pinyin);
     }
 
+    private static String normalize(final String token) {
+        // TODO sort this out.
+        return token.endsWith("ü") ? token.substring(0, token.length() - 1) + '~' : token;
+    }
+
+    /**
+     * Holder for the table of pinyin tokens, which is built only when it is first required (it takes a fraction of a second).
+     * <p>
+     * For each char of the BMP, the entry is the English code of (the first FIELDS characters of) its pinyin token,
+     * shifted left by LENGTH_BITS, together with the number of those characters.
+     * An entry of zero signifies a character whose token cannot be determined independently of its neighbours
+     * (e.g. a character which has no pinyin).
+     */
+    private static final class PinyinTable {
+        static final long[] TABLE = build();
+
+        private static long[] build() {
+            final long[] result = new long[Character.MAX_VALUE + 1];
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                final String pinyin = new ChineseCharacter((char) c).alt;
+                // NOTE: only a token which ends with a tone cannot run into the token of the following character.
+                if (pinyin.isEmpty() || !Character.isDigit(pinyin.charAt(pinyin.length() - 1))) continue;
+                final String[] tokens;
+                try {
+                    tokens = ChineseCharacter.parsePinyin(pinyin, 1);
+                } catch (final SortException e) {
+                    continue;
+                }
+                final String token = normalize(tokens[0]);
+                final int length = Math.min(token.length(), FIELDS);
+                long code = 0L;
+                for (int i = 0; i < length; i++) code = code << BIT_WIDTH | token.charAt(i) & MASK;
+                result[c] = code << LENGTH_BITS | length;
+            }
+            return result;
+        }
+    }
+
+    // NOTE: these must agree with the English coder (see HuskyCoderFactory).
+    private static final int BIT_WIDTH = 6;
+    private static final int MASK = 0x3F;
+    private static final int FIELDS = Long.SIZE / BIT_WIDTH;
+    private static final int LENGTH_BITS = 4;
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+
     private static long encodeBoPoMoFo(final String s) {
         final Long[] codes = ChineseCharacter.parsePinyin(Long.class, ChineseCharacter.convertToPinyin(s), s.length(), xs -> {
             long result = 0L;
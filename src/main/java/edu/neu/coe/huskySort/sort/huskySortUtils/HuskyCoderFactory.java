@@ -108,8 +108,10 @@ public final class HuskyCoderFactory {
 
     /**
      * A Husky Coder for unicode Strings.
+     * <p>
+     * NOTE: since no bits of any character are masked off, this coder is monotone.
      */
-    public final static HuskySequenceCoder<String> unicodeCoder = new BaseHuskySequenceCoder<>("Unicode", MAX_LENGTH_UNICODE - 1) {
+    public final static HuskySequenceCoder<String> unicodeCoder = new BaseHuskySequenceCoder<>("Unicode", MAX_LENGTH_UNICODE - 1, true) {
         /**
          * Encode x as a long.
          * As much as possible, if x > y, huskyEncode(x) > huskyEncode(y).
@@ -123,6 +125,11 @@ public final class HuskyCoderFactory {
         }
     };
 
+    /**
+     * A multi-level Husky Coder for unicode Strings (suitable for long Strings with common prefixes).
+     */
+    public final static SequenceEncoder_MultiLevel unicodeMultiLevelCoder = new SequenceEncoder_MultiLevel();
+
     /**
      * A Husky Coder for Chinese UTF8 Strings which are ordered according to the CHINA-local collator.
      */
@@ -42,6 +42,8 @@ public class HuskyHelper<X extends Comparable<X>> implements ComparisonSortHelpe
 
     /**
      * CONSIDER eliminating this method
+     * <p>
+     * NOTE: the array is reused from one sort to the next (see HuskyWorkspace) and so may be longer than the array being sorted.
      *
      * @return the array of longs.
      */
@@ -346,7 +348,29 @@ public class HuskyHelper<X extends Comparable<X>> implements ComparisonSortHelpe
      * @param array the array from which we build a long array by encoding.
      */
     public void doCoding(final X[] array) {
-        coding = coder.huskyEncode(array);
+        final long[] longs = workspace.getLongs(array.length);
+        coding = parallelEncoding ? coder.huskyEncodeParallel(array, longs) : coder.huskyEncode(array, longs);
+    }
+
+    /**
+     * @param parallelEncoding if true, doCoding will use huskyEncodeParallel.
+     */
+    public void setParallelEncoding(final boolean parallelEncoding) {
+        this.parallelEncoding = parallelEncoding;
+    }
+
+    /**
+     * @param runLocalPostSort if true, the second pass of HuskySort should sort only runs of equal codes (see HuskyRunSorter).
+     */
+    public void setRunLocalPostSort(final boolean runLocalPostSort) {
+        this.runLocalPostSort = runLocalPostSort;
+    }
+
+    /**
+     * @return the value of runLocalPostSort.
+     */
+    public boolean isRunLocalPostSort() {
+        return runLocalPostSort;
     }
 
     public Coding getCoding() {
@@ -401,6 +425,10 @@ public class HuskyHelper<X extends Comparable<X>> implements ComparisonSortHelpe
     private final Consumer<X[]> postSorter;
     private final boolean makeCopy;
 
+    private final HuskyWorkspace workspace = new HuskyWorkspace();
+
     private Coding coding;
     private boolean checkSorted = false;
+    private boolean parallelEncoding = false;
+    private boolean runLocalPostSort = false;
 }
@@ -0,0 +1,34 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+/**
+ * This interface extends HuskyCoder for coders which can produce successive levels of code for the same element.
+ * Level 0 is the ordinary husky code (as returned by huskyEncode(x)).
+ * Level n+1 encodes the part of x which immediately follows the part encoded by level n.
+ * <p>
+ * Such coders must be monotone at every level: if two elements have equal codes for levels 0 thru n,
+ * then their codes at level n+1 must be consistent with their natural order.
+ * Thus, runs of equal codes can be resolved by re-encoding (only) the elements of the run at the next level,
+ * rather than by invoking the comparator (see HuskyRunSorter).
+ *
+ * @param <X> the underlying type for this coder.
+ */
+public interface HuskyMultiLevelCoder<X> extends HuskyCoder<X> {
+
+    /**
+     * Encode x as a long at the given level.
+     *
+     * @param x     the X value to encode.
+     * @param level the level (0 for the first level).
+     * @return a long which is monotonically increasing with x, given that all lower levels are equal.
+     */
+    long huskyEncode(X x, int level);
+
+    /**
+     * Method to determine if x has been completely encoded by levels 0 thru level.
+     *
+     * @param x     the X value.
+     * @param level the level.
+     * @return true if there is nothing left of x to be encoded at level+1.
+     */
+    boolean exhausted(X x, int level);
+}
@@ -0,0 +1,163 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+/**
+ * Class to perform the first pass of HuskySort without moving any of the X elements until the very end.
+ * <p>
+ * The husky codes are packed, together with their original (relative) index, into a single long array
+ * of (code, index) pairs (code at even positions, index at the following odd position).
+ * Only the pairs are moved during sorting, so that all swaps touch one compact primitive array.
+ * Finally, the resulting permutation is applied to the X array (and the long array) in a single cycle-following pass.
+ */
+public final class HuskyPermutation {
+
+    /**
+     * Sort the elements of xs (and the corresponding longs) from "from" until "to" (exclusive) according to the longs.
+     *
+     * @param xs    the array of Xs, which will be permuted (but only once).
+     * @param longs the husky codes of xs, which will be sorted.
+     * @param from  the index of the first element to sort.
+     * @param to    the index of the first element not to sort.
+     * @param <X>   the underlying type of the elements.
+     */
+    public static <X> void sort(final X[] xs, final long[] longs, final int from, final int to) {
+        final int n = to - from;
+        if (n < 2) return;
+        final long[] pairs = pack(longs, from, to);
+        sortPairs(pairs, 0, n, 2 * floor_lg(n));
+        permute(xs, longs, pairs, from);
+    }
+
+    /**
+     * Pack the longs from "from" until "to" into an array of (code, index) pairs.
+     *
+     * @param longs the husky codes.
+     * @param from  the index of the first code.
+     * @param to    the index of the first code not to be packed.
+     * @return an array of length 2 * (to - from).
+     */
+    static long[] pack(final long[] longs, final int from, final int to) {
+        final long[] result = new long[2 * (to - from)];
+        for (int i = from, j = 0; i < to; i++) {
+            result[j++] = longs[i];
+            result[j++] = i - from;
+        }
+        return result;
+    }
+
+    /**
+     * Apply the permutation defined by the pairs to xs and longs, using cycle-following
+     * (each element is moved exactly once).
+     * On entry, pairs[2 * i + 1] is the (relative) original index of the element which belongs at position i.
+     * <p>
+     * NOTE: the index part of the pairs array is destroyed.
+     *
+     * @param xs    the array of Xs.
+     * @param longs the array of longs.
+     * @param pairs the sorted pairs.
+     * @param from  the offset of the sorted range in xs and longs.
+     * @param <X>   the underlying type of the elements.
+     */
+    static <X> void permute(final X[] xs, final long[] longs, final long[] pairs, final int from) {
+        final int n = pairs.length / 2;
+        for (int i = 0; i < n; i++) {
+            longs[from + i] = pairs[2 * i];
+            int j = i;
+            int k = (int) pairs[2 * j + 1];
+            if (k == j) continue;
+            final X x = xs[from + i];
+            while (k != i) {
+                xs[from + j] = xs[from + k];
+                // NOTE: mark position j as done.
+                pairs[2 * j + 1] = j;
+                j = k;
+                k = (int) pairs[2 * j + 1];
+            }
+            xs[from + j] = x;
+            pairs[2 * j + 1] = j;
+        }
+    }
+
+    static void sortPairs(final long[] pairs, final int from, final int to, final int depthThreshold) {
+        if (to - from <= sizeThreshold + 1) {
+            insertionSort(pairs, from, to);
+            return;
+        }
+        if (depthThreshold == 0) {
+            heapSort(pairs, from, to);
+            return;
+        }
+
+        final int lo = from;
+        final int hi = to - 1;
+
+        if (pairs[2 * hi] < pairs[2 * lo]) swap(pairs, lo, hi);
+
+        int lt = lo + 1, gt = hi - 1;
+        int i = lo + 1;
+        while (i <= gt) {
+            if (pairs[2 * i] < pairs[2 * lo]) swap(pairs, lt++, i++);
+            else if (pairs[2 * hi] < pairs[2 * i]) swap(pairs, i, gt--);
+            else i++;
+        }
+        swap(pairs, lo, --lt);
+        swap(pairs, hi, ++gt);
+        sortPairs(pairs, lo, lt, depthThreshold - 1);
+        if (pairs[2 * lt] < pairs[2 * gt]) sortPairs(pairs, lt + 1, gt, depthThreshold - 1);
+        sortPairs(pairs, gt + 1, hi + 1, depthThreshold - 1);
+    }
+
+    private static void heapSort(final long[] pairs, final int from, final int to) {
+        final int n = to - from;
+        for (int i = n / 2; i >= 1; i = i - 1) {
+            downHeap(pairs, i, n, from);
+        }
+        for (int i = n; i > 1; i = i - 1) {
+            swap(pairs, from, from + i - 1);
+            downHeap(pairs, 1, i - 1, from);
+        }
+    }
+
+    private static void downHeap(final long[] pairs, int i, final int n, final int lo) {
+        final long d = pairs[2 * (lo + i - 1)];
+        final long id = pairs[2 * (lo + i - 1) + 1];
+        int child;
+        while (i <= n / 2) {
+            child = 2 * i;
+            if (child < n && pairs[2 * (lo + child - 1)] < pairs[2 * (lo + child)]) child++;
+            if (d >= pairs[2 * (lo + child - 1)]) break;
+            pairs[2 * (lo + i - 1)] = pairs[2 * (lo + child - 1)];
+            pairs[2 * (lo + i - 1) + 1] = pairs[2 * (lo + child - 1) + 1];
+            i = child;
+        }
+        pairs[2 * (lo + i - 1)] = d;
+        pairs[2 * (lo + i - 1) + 1] = id;
+    }
+
+    private static void insertionSort(final long[] pairs, final int from, final int to) {
+        for (int i = from + 1; i < to; i++)
+            for (int j = i; j > from && pairs[2 * j] < pairs[2 * (j - 1)]; j--)
+                swap(pairs, j, j - 1);
+    }
+
+    /**
+     * Swap the pairs at (pair) indexes i and j.
+     *
+     * @param pairs the array of pairs.
+     * @param i     the index of one pair.
+     * @param j     the index of the other pair.
+     */
+    private static void swap(final long[] pairs, final int i, final int j) {
+        final long code = pairs[2 * i];
+        final long index = pairs[2 * i + 1];
+        pairs[2 * i] = pairs[2 * j];
+        pairs[2 * i + 1] = pairs[2 * j + 1];
+        pairs[2 * j] = code;
+        pairs[2 * j + 1] = index;
+    }
+
+    private static int floor_lg(final int a) {
+        return 31 - Integer.numberOfLeadingZeros(a);
+    }
+
+    private static final int sizeThreshold = 16;
+}
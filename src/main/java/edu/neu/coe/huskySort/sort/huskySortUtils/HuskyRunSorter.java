@@ -0,0 +1,175 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Class to perform the second (mop-up) pass of HuskySort locally, i.e. only within runs of equal husky codes.
+ * <p>
+ * After the first pass, the array is ordered by husky code.
+ * If the coder is monotone (x &lt; y implies code(x) &le; code(y)), then any remaining inversions
+ * must lie within a run of identical codes and so only those runs need to be sorted by the real comparator.
+ * For typical data, most runs have length one, so this pass is essentially a linear scan of the longs.
+ * <p>
+ * If the coder is not known to be monotone, then, after sorting the runs, the boundary between each pair of adjacent runs
+ * is checked and, if any boundary is out of order, the whole array is sorted by the comparator.
+ */
+public final class HuskyRunSorter {
+
+    /**
+     * Method to sort xs, given that it has already been sorted according to the longs which were generated by coder.
+     * If coder is a HuskyMultiLevelCoder, then runs are resolved by successive levels of encoding (see sortMultiLevel).
+     * Otherwise, runs are sorted according to the coder's collator (if any).
+     *
+     * @param xs    the array to be sorted (ordered by longs on entry).
+     * @param longs the husky codes corresponding to xs (must be in order).
+     * @param coder the husky coder which generated the longs.
+     * @param <X>   the underlying type of the elements.
+     */
+    public static <X extends Comparable<X>> void sort(final X[] xs, final long[] longs, final HuskyCoder<X> coder) {
+        if (coder instanceof HuskyMultiLevelCoder)
+            sortMultiLevel(xs, longs, (HuskyMultiLevelCoder<X>) coder);
+        else
+            sort(xs, longs, coder.getCollator(), coder.monotone());
+    }
+
+    /**
+     * Method to sort xs, given that it has already been sorted according to the level-0 codes of coder.
+     * Each run of equal codes is re-encoded at the next level and sorted by those codes, recursively.
+     * The comparator is invoked only for runs in which every element is exhausted, i.e. completely encoded.
+     * <p>
+     * NOTE: the longs are overwritten by higher-level codes.
+     *
+     * @param xs    the array to be sorted (ordered by longs on entry).
+     * @param longs the level-0 husky codes corresponding to xs (must be in order).
+     * @param coder the multi-level husky coder which generated the longs.
+     * @param <X>   the underlying type of the elements.
+     */
+    public static <X extends Comparable<X>> void sortMultiLevel(final X[] xs, final long[] longs, final HuskyMultiLevelCoder<X> coder) {
+        sortRuns(xs, longs, 0, xs.length, coder, 0);
+    }
+
+    /**
+     * Method to sort xs, given that it has already been sorted according to the longs.
+     *
+     * @param xs         the array to be sorted (ordered by longs on entry).
+     * @param longs      the husky codes corresponding to xs (must be in order).
+     * @param comparator the comparator to be used (if null, the natural order of X will be used).
+     * @param monotone   true if the husky coder which generated the longs is monotone.
+     * @param <X>        the underlying type of the elements.
+     * @return true if the run-local sort was sufficient; false if it was necessary to sort the whole array.
+     */
+    public static <X extends Comparable<X>> boolean sort(final X[] xs, final long[] longs, final Comparator<? super X> comparator, final boolean monotone) {
+        return sort(xs, longs, 0, xs.length, comparator, monotone);
+    }
+
+    /**
+     * Method to sort the elements of xs from "from" until "to" (exclusive), given that they have already been sorted according to the longs.
+     *
+     * @param xs         the array to be sorted (ordered by longs in the given range on entry).
+     * @param longs      the husky codes corresponding to xs (must be in order in the given range).
+     * @param from       the index of the first element to sort.
+     * @param to         the index of the first element not to sort.
+     * @param comparator the comparator to be used (if null, the natural order of X will be used).
+     * @param monotone   true if the husky coder which generated the longs is monotone.
+     * @param <X>        the underlying type of the elements.
+     * @return true if the run-local sort was sufficient; false if it was necessary to sort the whole range.
+     */
+    public static <X extends Comparable<X>> boolean sort(final X[] xs, final long[] longs, final int from, final int to, final Comparator<? super X> comparator, final boolean monotone) {
+        int i = from;
+        while (i < to) {
+            final int j = endOfRun(longs, i, to);
+            if (j - i > 1) Arrays.sort(xs, i, j, comparator);
+            i = j;
+        }
+        if (monotone || boundariesOrdered(xs, longs, from, to, comparator)) return true;
+        Arrays.sort(xs, from, to, comparator);
+        return false;
+    }
+
+    /**
+     * Method to sort xs by (binary) insertion sort, given that it has already been sorted according to the longs.
+     * The longs are moved collaterally with the xs.
+     * <p>
+     * If the coder is monotone, an element is only ever compared with (and inserted amongst) the preceding elements
+     * which share its code: where adjacent codes differ, their order is already known and no comparison is made.
+     * Otherwise, each element may be inserted anywhere in the sorted prefix.
+     * In either case, an element which is not less than its predecessor costs just one comparison,
+     * and the insertion point of any other element is found by binary search.
+     * The sort is stable.
+     *
+     * @param xs         the array to be sorted (ordered by longs on entry).
+     * @param longs      the husky codes corresponding to xs (must be in order).
+     * @param comparator the comparator to be used (if null, the natural order of X will be used).
+     * @param monotone   true if the husky coder which generated the longs is monotone.
+     * @param <X>        the underlying type of the elements.
+     */
+    public static <X extends Comparable<X>> void insertionSort(final X[] xs, final long[] longs, final Comparator<? super X> comparator, final boolean monotone) {
+        final Comparator<? super X> c = comparator != null ? comparator : Comparator.<X>naturalOrder();
+        int runStart = 0;
+        for (int i = 1; i < xs.length; i++) {
+            if (monotone && longs[i] != longs[i - 1]) {
+                runStart = i;
+                continue;
+            }
+            final X x = xs[i];
+            if (c.compare(xs[i - 1], x) <= 0) continue;
+            int lo = monotone ? runStart : 0, hi = i - 1;
+            // NOTE: find the first element greater than x (so that equal elements remain in their original order).
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (c.compare(x, xs[mid]) < 0) hi = mid;
+                else lo = mid + 1;
+            }
+            final long code = longs[i];
+            System.arraycopy(xs, lo, xs, lo + 1, i - lo);
+            System.arraycopy(longs, lo, longs, lo + 1, i - lo);
+            xs[lo] = x;
+            longs[lo] = code;
+        }
+    }
+
+    private static <X extends Comparable<X>> void sortRuns(final X[] xs, final long[] longs, final int from, final int to, final HuskyMultiLevelCoder<X> coder, final int level) {
+        int i = from;
+        while (i < to) {
+            final int j = endOfRun(longs, i, to);
+            if (j - i > 1) sortRun(xs, longs, i, j, coder, level);
+            i = j;
+        }
+    }
+
+    private static <X extends Comparable<X>> void sortRun(final X[] xs, final long[] longs, final int from, final int to, final HuskyMultiLevelCoder<X> coder, final int level) {
+        boolean exhausted = true;
+        for (int i = from; exhausted && i < to; i++) exhausted = coder.exhausted(xs[i], level);
+        if (exhausted) {
+            // NOTE: these elements can only differ in ways which the codes cannot distinguish (e.g. trailing zero characters).
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        for (int i = from; i < to; i++) longs[i] = coder.huskyEncode(xs[i], level + 1);
+        HuskyPermutation.sort(xs, longs, from, to);
+        sortRuns(xs, longs, from, to, coder, level + 1);
+    }
+
+    /**
+     * Method to find the end of the run of equal longs which begins at from.
+     *
+     * @param longs the array of longs.
+     * @param from  the index of the first element in the run.
+     * @param n     the number of elements.
+     * @return the index of the first element not in the run.
+     */
+    static int endOfRun(final long[] longs, final int from, final int n) {
+        final long code = longs[from];
+        int to = from + 1;
+        while (to < n && longs[to] == code) to++;
+        return to;
+    }
+
+    private static <X extends Comparable<X>> boolean boundariesOrdered(final X[] xs, final long[] longs, final int from, final int to, final Comparator<? super X> comparator) {
+        final Comparator<? super X> c = comparator != null ? comparator : Comparator.<X>naturalOrder();
+        for (int i = from + 1; i < to; i++)
+            if (longs[i] != longs[i - 1] && c.compare(xs[i - 1], xs[i]) > 0) return false;
+        return true;
+    }
+}
@@ -73,6 +73,7 @@ public final class HuskySortHelper {
         addToSequenceCoderMap(chineseEncoderCollator);
         addToSequenceCoderMap(englishCoder);
         addToSequenceCoderMap(unicodeCoder);
+        addToSequenceCoderMap(unicodeMultiLevelCoder);
     }
 
     private static void addToSequenceCoderMap(final HuskySequenceCoder<String> asciiCoder) {
@@ -0,0 +1,80 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Husky coder for UTF-8 byte sequences, which may be either whole byte arrays or (offset, length) slices of a shared buffer.
+ * Unlike HuskyCoderFactory.utf8ToLong, no Strings are decoded and nothing is allocated.
+ * <p>
+ * The code of a sequence is its first eight bytes (zero-padded), taken big-endian, with the sign bit flipped
+ * so that the signed order of the codes agrees with the unsigned lexicographic order of the bytes.
+ * This coder is therefore monotone (though not perfect: a sequence and the same sequence followed by zero bytes share a code).
+ * <p>
+ * NOTE: the unsigned order of UTF-8 bytes is the code point order of the corresponding Strings.
+ * This differs from the order of String.compareTo only where supplementary characters are compared with characters from U+E000 through U+FFFF.
+ */
+public final class HuskyUtf8Coder {
+
+    /**
+     * Encode a slice of bytes as a long.
+     *
+     * @param bytes  the buffer.
+     * @param offset the index of the first byte of the slice.
+     * @param length the number of bytes in the slice.
+     * @return the husky code.
+     */
+    public static long huskyEncode(final byte[] bytes, final int offset, final int length) {
+        if (length >= BYTES_PER_LONG) return (long) LONG_VIEW.get(bytes, offset) ^ Long.MIN_VALUE;
+        long result = 0L;
+        for (int i = 0; i < length; i++) result = result << Byte.SIZE | bytes[offset + i] & MASK_BYTE;
+        return result << Byte.SIZE * (BYTES_PER_LONG - length) ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Encode a byte array as a long.
+     *
+     * @param bytes the byte array to encode.
+     * @return the husky code.
+     */
+    public static long huskyEncode(final byte[] bytes) {
+        return huskyEncode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Encode an array of byte arrays into the corresponding elements of longs.
+     *
+     * @param xs    the byte arrays.
+     * @param longs the array of longs into which the codes will be placed (may be longer than xs).
+     */
+    public static void huskyEncode(final byte[][] xs, final long[] longs) {
+        for (int i = 0; i < xs.length; i++) longs[i] = huskyEncode(xs[i]);
+    }
+
+    /**
+     * Compare two slices of bytes (as unsigned bytes), beginning at the given depth.
+     * The slices are assumed to agree in their first depth bytes (when zero-padded).
+     *
+     * @param bytes   the buffer.
+     * @param offset1 the offset of the first slice.
+     * @param length1 the length of the first slice.
+     * @param offset2 the offset of the second slice.
+     * @param length2 the length of the second slice.
+     * @param depth   the number of bytes already known to be equal.
+     * @return a negative, zero or positive value according to whether the first slice is less than, equal to, or greater than the second.
+     */
+    public static int compare(final byte[] bytes, final int offset1, final int length1, final int offset2, final int length2, final int depth) {
+        final int cf = Arrays.compareUnsigned(bytes, offset1 + Math.min(depth, length1), offset1 + length1, bytes, offset2 + Math.min(depth, length2), offset2 + length2);
+        // NOTE: where the slices differ only by trailing zero bytes, the shorter is the lesser.
+        return cf != 0 ? cf : Integer.compare(length1, length2);
+    }
+
+    private HuskyUtf8Coder() {
+    }
+
+    public static final int BYTES_PER_LONG = Long.BYTES;
+    private static final int MASK_BYTE = 0xFF;
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+}
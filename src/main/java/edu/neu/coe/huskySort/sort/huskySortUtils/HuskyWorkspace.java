@@ -0,0 +1,89 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import java.util.Arrays;
+
+/**
+ * Class to hold the scratch arrays used by HuskySort (the long codes and the auxiliary arrays of merge sort)
+ * so that they can be reused from one sort to the next.
+ * Each array is grown on demand (never shrunk), so repeated sorts of similar-sized arrays are allocation-free.
+ * <p>
+ * NOTE: an array obtained from a workspace may be longer than the number of elements requested.
+ * Callers must therefore rely on the length of the array being sorted, never on the length of the scratch array.
+ * <p>
+ * NOTE: a workspace is not thread-safe: use forCurrentThread to get a workspace which is private to the current thread.
+ */
+public final class HuskyWorkspace {
+
+    /**
+     * @return the workspace belonging to the current thread.
+     */
+    public static HuskyWorkspace forCurrentThread() {
+        return workspaces.get();
+    }
+
+    /**
+     * Get the (primary) long array, with length at least n.
+     *
+     * @param n the number of elements required.
+     * @return a long array, whose contents are undefined.
+     */
+    public long[] getLongs(final int n) {
+        if (longs.length < n) longs = new long[grow(longs.length, n)];
+        return longs;
+    }
+
+    /**
+     * Get the auxiliary long array, with length at least n.
+     *
+     * @param n the number of elements required.
+     * @return a long array, whose contents are undefined.
+     */
+    public long[] getLongsAux(final int n) {
+        if (longsAux.length < n) longsAux = new long[grow(longsAux.length, n)];
+        return longsAux;
+    }
+
+    /**
+     * Get the auxiliary array of Comparables, with length at least n.
+     * The caller should invoke releaseXsAux when it has finished with the array.
+     * <p>
+     * NOTE: the runtime type of the result is Comparable[], so it may be cast to X[] only where X is erased
+     * (i.e. within a generic sorter); a cast to a concrete array type such as String[] would fail.
+     *
+     * @param n the number of elements required.
+     * @return an array of Comparables whose first n elements are null.
+     */
+    public Comparable<?>[] getXsAux(final int n) {
+        if (xsAux.length < n) xsAux = new Comparable<?>[grow(xsAux.length, n)];
+        return xsAux;
+    }
+
+    /**
+     * Clear the first n elements of the auxiliary X array, so that the workspace does not keep the elements reachable.
+     *
+     * @param n the number of elements used.
+     */
+    public void releaseXsAux(final int n) {
+        Arrays.fill(xsAux, 0, Math.min(n, xsAux.length), null);
+    }
+
+    /**
+     * Get the total number of array elements currently held by this workspace.
+     *
+     * @return the sum of the lengths of the scratch arrays.
+     */
+    public int capacity() {
+        return longs.length + longsAux.length + xsAux.length;
+    }
+
+    private static int grow(final int length, final int n) {
+        // NOTE: we allow some head-room so that slowly growing sizes do not cause a reallocation on every sort.
+        return Math.max(n, length + (length >> 1));
+    }
+
+    private static final ThreadLocal<HuskyWorkspace> workspaces = ThreadLocal.withInitial(HuskyWorkspace::new);
+
+    private long[] longs = new long[0];
+    private long[] longsAux = new long[0];
+    private Comparable<?>[] xsAux = new Comparable<?>[0];
+}
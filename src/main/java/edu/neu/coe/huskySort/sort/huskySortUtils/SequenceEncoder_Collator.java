@@ -10,16 +10,48 @@ public class SequenceEncoder_Collator extends BaseHuskySequenceCoder<String> {
      * @param collator the appropriate Collator
      */
     public SequenceEncoder_Collator(final Collator collator) {
-        super("UTF8", Integer.MAX_VALUE);
+        // NOTE: the code is a (left-aligned) prefix of the collation key and so this coder is monotone with respect to the collator (see getCode).
+        super("UTF8", Integer.MAX_VALUE, true);
         this.collator = collator;
     }
 
     @Override
     public Coding huskyEncode(final String[] xs) {
+        return huskyEncode(getCollationKeys(xs));
+    }
+
+    /**
+     * Method to get the collation key of each of the given Strings.
+     * The keys may then be sorted (and compared) without further reference to the collator (see CollationKeyHuskySort).
+     *
+     * @param xs an array of Strings.
+     * @return an array of the corresponding collation keys.
+     */
+    public CollationKey[] getCollationKeys(final String[] xs) {
         final int length = xs.length;
         final CollationKey[] keys = new CollationKey[length];
         for (int i = 0; i < length; i++) keys[i] = getCollationKey(xs[i]);
-        return huskyEncode(keys);
+        return keys;
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     *
+     * @param xs    an array of Strings.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if every collation key in the range is short enough to be encoded perfectly.
+     */
+    @Override
+    public boolean huskyEncode(final String[] xs, final long[] longs, final int from, final int to) {
+        boolean perfect = true;
+        for (int i = from; i < to; i++) {
+            final byte[] byteArray = getCollationKey(xs[i]).toByteArray();
+            if (byteArray.length > 7) perfect = false;
+            longs[i] = getCode(byteArray);
+        }
+        return perfect;
     }
 
     /**
@@ -34,6 +66,21 @@ public class SequenceEncoder_Collator extends BaseHuskySequenceCoder<String> {
         return getCode(getCollationKey(str).toByteArray());
     }
 
+    /**
+     * Method to get the code of a collation key (as a byte array) from its first seven bytes.
+     * <p>
+     * NOTE: the bytes of a shorter key are left-aligned (i.e. padded with zero bytes),
+     * since collation keys are compared lexicographically, not numerically.
+     * Otherwise, a key of six bytes would have a smaller code than a key of eight bytes which precedes it.
+     *
+     * @param byteArray the bytes of a collation key.
+     * @return a long whose (unsigned) bytes are the first seven bytes of the key.
+     */
+    @Override
+    public long getCode(final byte[] byteArray) {
+        return huskyEncode(byteArray) << 8 * Math.max(7 - byteArray.length, 0);
+    }
+
     /**
      * Method to get the value of the Collator.
      *
@@ -0,0 +1,150 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.sort.SortException;
+
+/**
+ * Husky coder for Strings which uses an order-preserving dictionary of the characters actually present in the input.
+ * <p>
+ * Each character is replaced by its rank in the (sorted) alphabet, from 1 through s, where s is the size of the alphabet
+ * (zero is reserved for the end of a String).
+ * The ranks are then packed into the long as the digits of a number in base s + 1 (rather than in a whole number of bits per character),
+ * so that each character costs only log2(s + 1) bits.
+ * For example, lower-case English words (s = 26) get thirteen characters into 63 bits,
+ * where englishCoder gets ten and a five-bit coding would get twelve.
+ * <p>
+ * A character which is not in the alphabet is encoded as the greatest character of the alphabet which is less than it (or as the end of a String),
+ * and every subsequent digit of the code is saturated (set to the greatest digit).
+ * Thus this coder is monotone, though such Strings are not perfectly encoded.
+ * <p>
+ * CONSIDER using Hu-Tucker codes, which would allow more of the frequent characters to fit into a code (but at the cost of variable-length fields).
+ */
+public class SequenceEncoder_Dictionary extends BaseHuskySequenceCoder<String> {
+
+    /**
+     * Method to create a SequenceEncoder_Dictionary whose alphabet is every character which occurs (within the first 64 characters) of the given Strings.
+     *
+     * @param xs the Strings to be encoded.
+     * @return a SequenceEncoder_Dictionary.
+     */
+    public static SequenceEncoder_Dictionary create(final String[] xs) {
+        final boolean[] present = new boolean[Character.MAX_VALUE + 1];
+        int size = 0;
+        for (final String x : xs)
+            for (int i = 0; i < x.length() && i < Long.SIZE; i++) {
+                final char c = x.charAt(i);
+                if (!present[c]) {
+                    present[c] = true;
+                    size++;
+                }
+            }
+        final char[] alphabet = new char[size];
+        for (int c = 0, j = 0; j < size; c++) if (present[c]) alphabet[j++] = (char) c;
+        return new SequenceEncoder_Dictionary(alphabet);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet the alphabet (in strictly increasing order).
+     */
+    public SequenceEncoder_Dictionary(final char[] alphabet) {
+        this(alphabet, maxLength(alphabet.length + 1));
+    }
+
+    /**
+     * Encode str as a long.
+     *
+     * @param str the String to encode.
+     * @return a long which is monotonically non-decreasing with str.
+     */
+    public long huskyEncode(final String str) {
+        final int length = Math.min(str.length(), maxLength);
+        long result = 0L;
+        for (int i = 0; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c >= ranks.length || alphabet[ranks[c] - 1] != c)
+                // NOTE: equivalent to appending the digit for c and then the greatest digit in every remaining position.
+                return (result * radix + lesser(c) + 1) * powers[maxLength - i - 1] - 1;
+            result = result * radix + ranks[c];
+        }
+        return result * powers[maxLength - length];
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     *
+     * @param xs    an array of Strings.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if every element in the range is no longer than maxLength and has only characters from the alphabet.
+     */
+    @Override
+    public boolean huskyEncode(final String[] xs, final long[] longs, final int from, final int to) {
+        boolean isPerfect = true;
+        for (int i = from; i < to; i++) {
+            final String x = xs[i];
+            if (isPerfect) isPerfect = perfectForLength(x.length()) && inAlphabet(x);
+            longs[i] = huskyEncode(x);
+        }
+        return isPerfect;
+    }
+
+    /**
+     * @return the number of characters which are encoded.
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    private SequenceEncoder_Dictionary(final char[] alphabet, final int maxLength) {
+        super("Dictionary[" + alphabet.length + "]", maxLength, true);
+        for (int j = 1; j < alphabet.length; j++)
+            if (alphabet[j] <= alphabet[j - 1]) throw new SortException("SequenceEncoder_Dictionary: alphabet is not in strictly increasing order");
+        this.alphabet = alphabet;
+        this.radix = alphabet.length + 1;
+        this.maxLength = maxLength;
+        this.powers = new long[maxLength + 1];
+        powers[0] = 1L;
+        for (int i = 1; i <= maxLength; i++) powers[i] = powers[i - 1] * radix;
+        // NOTE: ranks[c] is one more than the index of the least character of the alphabet which is not less than c.
+        this.ranks = new char[alphabet.length > 0 ? alphabet[alphabet.length - 1] + 1 : 0];
+        for (int c = 0, j = 0; c < ranks.length; c++) {
+            if (c > alphabet[j]) j++;
+            ranks[c] = (char) (j + 1);
+        }
+    }
+
+    /**
+     * @param c a character which is not in the alphabet.
+     * @return the number of characters of the alphabet which are less than c.
+     */
+    private int lesser(final char c) {
+        return c < ranks.length ? ranks[c] - 1 : alphabet.length;
+    }
+
+    private boolean inAlphabet(final String x) {
+        for (int i = 0; i < x.length(); i++) {
+            final char c = x.charAt(i);
+            if (c >= ranks.length || alphabet[ranks[c] - 1] != c) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param radix the base in which the characters are packed.
+     * @return the greatest number of digits (in the given base) which will fit into a non-negative long.
+     */
+    static int maxLength(final int radix) {
+        if (radix < 2) return Long.SIZE - 1;
+        int result = 0;
+        for (long power = 1; power <= Long.MAX_VALUE / radix; power *= radix) result++;
+        return result;
+    }
+
+    private final char[] alphabet;
+    private final int radix;
+    private final int maxLength;
+    private final long[] powers;
+    private final char[] ranks;
+}
@@ -0,0 +1,55 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+/**
+ * Multi-level Husky coder for unicode Strings.
+ * Each level encodes the next four characters (16 bits each) of a String, so that Strings with long common prefixes
+ * (URLs, file paths, etc.) can be resolved by successive levels of long comparisons.
+ * <p>
+ * NOTE: the sign bit of each code is flipped so that the (unsigned) character order is preserved by signed long comparison.
+ */
+public class SequenceEncoder_MultiLevel extends BaseHuskySequenceCoder<String> implements HuskyMultiLevelCoder<String> {
+
+    /**
+     * Constructor.
+     */
+    public SequenceEncoder_MultiLevel() {
+        super("MultiLevelUnicode", CHARS_PER_LEVEL, true);
+    }
+
+    /**
+     * Encode the first four characters of str as a long.
+     *
+     * @param str the String to encode.
+     * @return the level-0 code of str.
+     */
+    public long huskyEncode(final String str) {
+        return huskyEncode(str, 0);
+    }
+
+    /**
+     * Encode the four characters of str which begin at index 4 * level.
+     *
+     * @param str   the String to encode.
+     * @param level the level.
+     * @return a long.
+     */
+    public long huskyEncode(final String str, final int level) {
+        final int from = level * CHARS_PER_LEVEL;
+        final int to = Math.min(str.length(), from + CHARS_PER_LEVEL);
+        long result = 0L;
+        for (int i = from; i < to; i++) result = result << Character.SIZE | str.charAt(i);
+        for (int i = Math.max(from, to); i < from + CHARS_PER_LEVEL; i++) result = result << Character.SIZE;
+        return result ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * @param str   the String.
+     * @param level the level.
+     * @return true if the length of str is no more than 4 * (level + 1).
+     */
+    public boolean exhausted(final String str, final int level) {
+        return str.length() <= (level + 1) * CHARS_PER_LEVEL;
+    }
+
+    private static final int CHARS_PER_LEVEL = Long.SIZE / Character.SIZE;
+}
@@ -0,0 +1,199 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Husky coder for Strings which (mostly) share a common prefix, such as URLs or file paths.
+ * The common prefix is skipped and only the characters which follow it are encoded.
+ * <p>
+ * Optionally, the alphabet of each position (after the prefix) is compressed:
+ * the characters found at that position in a sample are ranked, and each character is encoded by its rank in just enough bits,
+ * so that more positions fit into the code.
+ * Otherwise, four characters are encoded (16 bits each) as by the unicode coder.
+ * <p>
+ * A String which does not begin with the prefix is encoded as Long.MIN_VALUE or Long.MAX_VALUE
+ * (according to whether it is less than or greater than the prefix).
+ * Similarly, a character which is not in the alphabet of its position is encoded as the greatest character of the alphabet which is less than it
+ * (or as the end of a String), and every subsequent field of the code is saturated (set to all ones).
+ * Thus this coder is monotone, regardless of how well the prefix and alphabets match the Strings actually encoded.
+ */
+public class SequenceEncoder_Prefix extends BaseHuskySequenceCoder<String> {
+
+    /**
+     * Method to create a SequenceEncoder_Prefix, with compressed alphabets, for the given Strings.
+     * The prefix is the longest common prefix of all the Strings; the alphabets are taken from a sample.
+     *
+     * @param xs the Strings to be encoded.
+     * @return a SequenceEncoder_Prefix.
+     */
+    public static SequenceEncoder_Prefix create(final String[] xs) {
+        return create(xs, true);
+    }
+
+    /**
+     * Method to create a SequenceEncoder_Prefix for the given Strings.
+     * The prefix is the longest common prefix of all the Strings.
+     *
+     * @param xs       the Strings to be encoded.
+     * @param compress if true, the alphabet of each position is compressed (according to a sample of xs).
+     * @return a SequenceEncoder_Prefix.
+     */
+    public static SequenceEncoder_Prefix create(final String[] xs, final boolean compress) {
+        final String prefix = longestCommonPrefix(xs);
+        return new SequenceEncoder_Prefix(prefix, compress ? alphabets(AdaptiveHuskyCoder.sample(xs, SAMPLE_SIZE, new Random(0L)), prefix.length()) : null);
+    }
+
+    /**
+     * Encode str as a long.
+     *
+     * @param str the String to encode.
+     * @return a long which is monotonically non-decreasing with str.
+     */
+    public long huskyEncode(final String str) {
+        if (!str.startsWith(prefix)) return str.compareTo(prefix) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        return alphabets == null ? encodeSuffix(str) : encodeSuffixCompressed(str);
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     *
+     * @param xs    an array of Strings.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if every element in the range begins with the prefix, is no longer than maxLength and has only characters from the alphabets.
+     */
+    @Override
+    public boolean huskyEncode(final String[] xs, final long[] longs, final int from, final int to) {
+        boolean isPerfect = true;
+        for (int i = from; i < to; i++) {
+            final String x = xs[i];
+            if (isPerfect) isPerfect = perfectForLength(x.length()) && x.startsWith(prefix) && inAlphabets(x);
+            longs[i] = huskyEncode(x);
+        }
+        return isPerfect;
+    }
+
+    /**
+     * @return the common prefix which is skipped.
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param prefix    the common prefix.
+     * @param alphabets the (sorted) alphabet of each position after the prefix (if null, the alphabets are not compressed).
+     */
+    public SequenceEncoder_Prefix(final String prefix, final char[][] alphabets) {
+        super("Prefix[" + prefix.length() + "]", prefix.length() + (alphabets == null ? CHARS_PER_LONG - 1 : alphabets.length), true);
+        this.prefix = prefix;
+        this.alphabets = alphabets;
+        if (alphabets != null) {
+            widths = new int[alphabets.length];
+            for (int j = 0; j < alphabets.length; j++) widths[j] = bitWidth(alphabets[j].length);
+        } else widths = null;
+    }
+
+    /**
+     * Method to compute the longest common prefix of some Strings.
+     *
+     * @param xs the Strings.
+     * @return the longest common prefix (empty if xs is empty).
+     */
+    static String longestCommonPrefix(final String[] xs) {
+        if (xs.length == 0) return "";
+        int length = xs[0].length();
+        for (int i = 1; i < xs.length && length > 0; i++) {
+            final String x = xs[i];
+            length = Math.min(length, x.length());
+            for (int j = 0; j < length; j++)
+                if (x.charAt(j) != xs[0].charAt(j)) {
+                    length = j;
+                    break;
+                }
+        }
+        return xs[0].substring(0, length);
+    }
+
+    /**
+     * Method to compute the alphabet of each position which follows the prefix, for as many positions as will fit into a (non-negative) long.
+     *
+     * @param sample a sample of the Strings.
+     * @param from   the length of the prefix.
+     * @return an array of sorted alphabets.
+     */
+    static char[][] alphabets(final String[] sample, final int from) {
+        final char[][] result = new char[Long.SIZE][];
+        int bits = 0;
+        int positions = 0;
+        while (positions < result.length) {
+            final TreeSet<Character> alphabet = new TreeSet<>();
+            for (final String x : sample) if (x.length() > from + positions) alphabet.add(x.charAt(from + positions));
+            if (alphabet.isEmpty()) break;
+            bits += bitWidth(alphabet.size());
+            if (bits >= Long.SIZE) break;
+            final char[] chars = new char[alphabet.size()];
+            int i = 0;
+            for (final char c : alphabet) chars[i++] = c;
+            result[positions++] = chars;
+        }
+        return Arrays.copyOf(result, positions);
+    }
+
+    private long encodeSuffix(final String str) {
+        final int from = prefix.length();
+        final int to = Math.min(str.length(), from + CHARS_PER_LONG);
+        long result = 0L;
+        for (int i = from; i < to; i++) result = result << Character.SIZE | str.charAt(i);
+        return result << Character.SIZE * (from + CHARS_PER_LONG - to) >>> 1;
+    }
+
+    private long encodeSuffixCompressed(final String str) {
+        final int from = prefix.length();
+        long result = 0L;
+        for (int j = 0; j < alphabets.length; j++) {
+            final int i = from + j;
+            if (i >= str.length()) {
+                result = result << widths[j];
+                continue;
+            }
+            // NOTE: zero is reserved for the end of a String, so the rank of a character is one more than its index.
+            final int index = Arrays.binarySearch(alphabets[j], str.charAt(i));
+            if (index < 0) {
+                int remainder = 0;
+                for (int k = j + 1; k < alphabets.length; k++) remainder += widths[k];
+                return (result << widths[j] | -index - 1) << remainder | (1L << remainder) - 1;
+            }
+            result = result << widths[j] | index + 1;
+        }
+        return result;
+    }
+
+    private boolean inAlphabets(final String x) {
+        if (alphabets == null) return true;
+        final int from = prefix.length();
+        for (int j = 0; j < alphabets.length && from + j < x.length(); j++)
+            if (Arrays.binarySearch(alphabets[j], x.charAt(from + j)) < 0) return false;
+        return true;
+    }
+
+    /**
+     * @param size the size of an alphabet.
+     * @return the number of bits required for the values zero (end of String) through size.
+     */
+    private static int bitWidth(final int size) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    private static final int CHARS_PER_LONG = Long.SIZE / Character.SIZE;
+    private static final int SAMPLE_SIZE = 1000;
+
+    private final String prefix;
+    private final char[][] alphabets;
+    private final int[] widths;
+}
@@ -0,0 +1,113 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.sort.SortException;
+
+/**
+ * Husky coder for Strings whose characters (mostly) lie in a known range, from lo through hi.
+ * Each character c is encoded in just enough bits to represent c - lo + 1 (zero is reserved for the padding which follows the end of a String),
+ * so that the narrower the range, the more characters fit into the code.
+ * For example, lower-case English words use five bits per character and so twelve characters are encoded.
+ * <p>
+ * A character below the range is encoded as the end of a String, and a character above the range as the last character of the range,
+ * but in either case every subsequent field of the code is saturated (set to all ones),
+ * so that the code is no less than that of any String which it should follow.
+ * Thus this coder is monotone, but a String containing such a character (in its encoded prefix) is not perfectly encoded.
+ */
+public class SequenceEncoder_Range extends BaseHuskySequenceCoder<String> {
+
+    /**
+     * Constructor.
+     *
+     * @param lo the lowest character of the range.
+     * @param hi the highest character of the range.
+     */
+    public SequenceEncoder_Range(final char lo, final char hi) {
+        this(lo, hi, bitWidth(lo, hi));
+    }
+
+    /**
+     * Encode str as a long.
+     *
+     * @param str the String to encode.
+     * @return a long which is monotonically non-decreasing with str.
+     */
+    public long huskyEncode(final String str) {
+        final int length = Math.min(str.length(), maxLength);
+        long result = 0L;
+        for (int i = 0; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c < lo || c > hi) {
+                final int remainder = bitWidth * (maxLength - i - 1);
+                return (result << bitWidth | (c < lo ? 0 : hi - lo + 1)) << remainder | (1L << remainder) - 1;
+            }
+            result = result << bitWidth | c - lo + 1;
+        }
+        return result << bitWidth * (maxLength - length);
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     *
+     * @param xs    an array of Strings.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if every element in the range is no longer than maxLength and has no character outside the range.
+     */
+    @Override
+    public boolean huskyEncode(final String[] xs, final long[] longs, final int from, final int to) {
+        boolean isPerfect = true;
+        for (int i = from; i < to; i++) {
+            final String x = xs[i];
+            if (isPerfect) isPerfect = perfectForLength(x.length()) && inRange(x);
+            longs[i] = huskyEncode(x);
+        }
+        return isPerfect;
+    }
+
+    /**
+     * @return the number of bits used for each character.
+     */
+    public int bitWidth() {
+        return bitWidth;
+    }
+
+    /**
+     * @return the number of characters which are encoded.
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    private SequenceEncoder_Range(final char lo, final char hi, final int bitWidth) {
+        super("Range[" + lo + "-" + hi + "]", (Long.SIZE - 1) / bitWidth, true);
+        if (hi < lo) throw new SortException("SequenceEncoder_Range: hi < lo: " + lo + ", " + hi);
+        this.lo = lo;
+        this.hi = hi;
+        this.bitWidth = bitWidth;
+        // NOTE: the sign bit is never used.
+        this.maxLength = (Long.SIZE - 1) / bitWidth;
+    }
+
+    private boolean inRange(final String x) {
+        for (int i = 0; i < x.length(); i++) {
+            final char c = x.charAt(i);
+            if (c < lo || c > hi) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param lo the lowest character of the range.
+     * @param hi the highest character of the range.
+     * @return the number of bits required for the values zero through hi - lo + 1.
+     */
+    static int bitWidth(final char lo, final char hi) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(hi - lo + 1, 1));
+    }
+
+    private final char lo;
+    private final char hi;
+    private final int bitWidth;
+    private final int maxLength;
+}
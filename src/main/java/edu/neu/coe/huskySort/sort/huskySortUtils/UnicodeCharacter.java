@@ -55,6 +55,21 @@ public abstract class UnicodeCharacter implements Comparable<UnicodeCharacter> {
         this.longCode = encode();
     }
 
+    /**
+     * Constructor to take a unicode character together with its (previously computed) alternative representation and long code,
+     * for example, from a snapshot (see CharacterMap.load).
+     * Neither alt() nor encode() is invoked.
+     *
+     * @param unicode  a unicode character.
+     * @param alt      the alternative representation of unicode.
+     * @param longCode the long proxy value of unicode.
+     */
+    protected UnicodeCharacter(final char unicode, final String alt, final long longCode) {
+        this.unicode = unicode;
+        this.alt = alt;
+        this.longCode = longCode;
+    }
+
     @Override
     public String toString() {
         return "UnicodeCharacter{" + "unicode=" + unicode + ", alt='" + alt + '\'' + ", longCode=" + longCode + '}';
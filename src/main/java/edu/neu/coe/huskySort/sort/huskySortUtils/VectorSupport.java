@@ -0,0 +1,72 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+/**
+ * Class to provide the vectorized String coders (see VectorSequenceCoder) when they are available at run time,
+ * and otherwise the equivalent scalar coders of HuskyCoderFactory.
+ * <p>
+ * The vectorized coders are available only if this project was built with the "vector" profile
+ * and the JVM was started with --add-modules jdk.incubator.vector.
+ */
+public final class VectorSupport {
+
+    /**
+     * @return true if the vectorized coders are available.
+     */
+    public static boolean isAvailable() {
+        return ascii != null;
+    }
+
+    /**
+     * @return a coder which yields the same codes as HuskyCoderFactory.asciiCoder.
+     */
+    public static HuskySequenceCoder<String> asciiCoder() {
+        return ascii != null ? ascii : HuskyCoderFactory.asciiCoder;
+    }
+
+    /**
+     * @return a coder which yields the same codes as HuskyCoderFactory.englishCoder.
+     */
+    public static HuskySequenceCoder<String> englishCoder() {
+        return english != null ? english : HuskyCoderFactory.englishCoder;
+    }
+
+    /**
+     * @return a coder which yields the same codes as HuskyCoderFactory.unicodeCoder.
+     */
+    public static HuskySequenceCoder<String> unicodeCoder() {
+        return unicode != null ? unicode : HuskyCoderFactory.unicodeCoder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HuskySequenceCoder<String> getCoder(final Class<?> clazz, final String name) throws ReflectiveOperationException {
+        return (HuskySequenceCoder<String>) clazz.getField(name).get(null);
+    }
+
+    private VectorSupport() {
+    }
+
+    private final static LazyLogger logger = new LazyLogger(VectorSupport.class);
+
+    private static final HuskySequenceCoder<String> ascii;
+    private static final HuskySequenceCoder<String> english;
+    private static final HuskySequenceCoder<String> unicode;
+
+    static {
+        HuskySequenceCoder<String> a = null, e = null, u = null;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent())
+            try {
+                final Class<?> clazz = Class.forName("edu.neu.coe.huskySort.sort.huskySortUtils.VectorSequenceCoder");
+                a = getCoder(clazz, "ASCII");
+                e = getCoder(clazz, "ENGLISH");
+                u = getCoder(clazz, "UNICODE");
+            } catch (final ReflectiveOperationException | LinkageError x) {
+                logger.info("VectorSupport: vectorized coders are not available: " + x);
+                a = e = u = null;
+            }
+        ascii = a;
+        english = e;
+        unicode = u;
+    }
+}
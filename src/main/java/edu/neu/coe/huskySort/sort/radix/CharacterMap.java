@@ -1,7 +1,19 @@
 package edu.neu.coe.huskySort.sort.radix;
 
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySortUtils.ChineseCharacter;
 import edu.neu.coe.huskySort.sort.huskySortUtils.UnicodeCharacter;
+import edu.neu.coe.huskySort.util.LazyLogger;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
@@ -11,9 +23,136 @@ import java.util.function.Function;
 /**
  * Class to model the mapping of Unicode characters to a (long) proxy value which can be used for sorting.
  * There is also an intermediate mapping possible to a form such as Pinyin for Chinese characters.
+ * <p>
+ * Since the mapping of each character is computed (lazily) by a library such as pinyin4j,
+ * a CharacterMap can be saved as a binary snapshot (see save) and loaded again (see load) without invoking that library.
+ * The snapshot consists of a header (magic number, dialect and size), followed by the (sorted) characters,
+ * their long codes, the offsets of their alternative representations, and finally the alternative representations themselves.
  */
 public class CharacterMap {
 
+    /**
+     * Main program to build a snapshot of the Chinese characters (the CJK Unified Ideographs).
+     *
+     * @param args the snapshot file and, optionally, the dialect (defaults to Hanyu).
+     */
+    public static void main(final String[] args) {
+        if (args.length < 1) {
+            logger.warn("Usage: CharacterMap snapshot [dialect]");
+            return;
+        }
+        final File file = new File(args[0]);
+        final CharacterMap characterMap = new CharacterMap(ChineseCharacter::new, args.length > 1 ? args[1] : "Hanyu", null);
+        characterMap.populate(CJK_FIRST, CJK_LAST);
+        try {
+            characterMap.save(file);
+            logger.info("CharacterMap.main: saved " + characterMap.size() + " characters to " + file);
+        } catch (final IOException e) {
+            throw new SortException("CharacterMap: cannot save snapshot to " + file, e);
+        }
+    }
+
+    /**
+     * Method to load a CharacterMap from a snapshot (see save).
+     * The snapshot is memory-mapped and all of its characters are added to the resulting map, without invoking toUnicodeCharacter.
+     *
+     * @param file               the snapshot file.
+     * @param toUnicodeCharacter a function which turns a Character into a UnicodeCharacter (for characters not in the snapshot).
+     * @return a CharacterMap with the dialect of the snapshot.
+     * @throws IOException if the file cannot be read or is not a (complete and consistent) snapshot.
+     */
+    public static CharacterMap load(final File file, final Function<Character, UnicodeCharacter> toUnicodeCharacter) throws IOException {
+        final ByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC)
+            throw new IOException("CharacterMap: not a snapshot: " + file);
+        final char[] dialect = new char[readLength(buffer, Character.BYTES, 0, file)];
+        buffer.asCharBuffer().get(dialect);
+        buffer.position(buffer.position() + Character.BYTES * dialect.length);
+        // NOTE: each of the n characters has a key, a code and an offset; and there is one more offset.
+        final int n = readLength(buffer, Character.BYTES + Long.BYTES + Integer.BYTES, Integer.BYTES, file);
+        final char[] keys = new char[n];
+        buffer.asCharBuffer().get(keys);
+        buffer.position(buffer.position() + Character.BYTES * n);
+        final long[] codes = new long[n];
+        buffer.asLongBuffer().get(codes);
+        buffer.position(buffer.position() + Long.BYTES * n);
+        final int[] offsets = new int[n + 1];
+        buffer.asIntBuffer().get(offsets);
+        buffer.position(buffer.position() + Integer.BYTES * (n + 1));
+        if (offsets[0] != 0) throw new IOException("CharacterMap: corrupt snapshot: " + file);
+        for (int i = 0; i < n; i++)
+            if (offsets[i + 1] < offsets[i]) throw new IOException("CharacterMap: corrupt snapshot: " + file);
+        if ((long) Character.BYTES * offsets[n] > buffer.remaining())
+            throw new IOException("CharacterMap: truncated snapshot: " + file);
+        final char[] alts = new char[offsets[n]];
+        buffer.asCharBuffer().get(alts);
+
+        final CharacterMap result = new CharacterMap(toUnicodeCharacter, new String(dialect), null);
+        for (int i = 0; i < n; i++)
+            result.put(keys[i], new SnapshotCharacter(keys[i], new String(alts, offsets[i], offsets[i + 1] - offsets[i]), codes[i]));
+        return result;
+    }
+
+    /**
+     * Method to read the length of a section of a snapshot, and to check that the buffer holds the whole section.
+     *
+     * @param buffer          the snapshot buffer, positioned at the length.
+     * @param bytesPerElement the number of bytes per element of the section.
+     * @param extraBytes      the number of bytes in the section in addition to its elements.
+     * @param file            the snapshot file (for the message of any exception).
+     * @return the length (the number of elements).
+     * @throws IOException if the length is negative or the section extends beyond the end of the buffer.
+     */
+    private static int readLength(final ByteBuffer buffer, final int bytesPerElement, final int extraBytes, final File file) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) throw new IOException("CharacterMap: truncated snapshot: " + file);
+        final int length = buffer.getInt();
+        if (length < 0) throw new IOException("CharacterMap: corrupt snapshot: " + file);
+        if ((long) bytesPerElement * length + extraBytes > buffer.remaining())
+            throw new IOException("CharacterMap: truncated snapshot: " + file);
+        return length;
+    }
+
+    /**
+     * Method to save this CharacterMap as a snapshot (see load).
+     * Only the characters which are currently in this map are saved (see populate).
+     *
+     * @param file the snapshot file (which will be overwritten).
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(final File file) throws IOException {
+        final char[] keys = new char[size()];
+        int n = 0;
+        for (final char x : characters.keySet()) keys[n++] = x;
+        Arrays.sort(keys);
+        final String[] alts = new String[n];
+        for (int i = 0; i < n; i++) alts[i] = characters.get(keys[i]).alt();
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(dialect.length());
+            output.writeChars(dialect);
+            output.writeInt(n);
+            for (final char x : keys) output.writeChar(x);
+            for (final char x : keys) output.writeLong(characters.get(x).encode());
+            int offset = 0;
+            output.writeInt(offset);
+            for (final String alt : alts) output.writeInt(offset += alt.length());
+            for (final String alt : alts) output.writeChars(alt);
+        }
+    }
+
+    /**
+     * Method to ensure that every character from first through last (inclusive) is in this map.
+     *
+     * @param first the first character.
+     * @param last  the last character.
+     */
+    public void populate(final char first, final char last) {
+        for (int x = first; x <= last; x++) get((char) x);
+    }
+
     /**
      * A Comparator of String that can be used.
      * <p>
@@ -79,6 +218,41 @@ public class CharacterMap {
         return unicodeCharacter;
     }
 
+    /**
+     * Method to assign a dense ordinal to each character in this map, in the order of the characters (i.e. of their long codes).
+     * Characters which compare as equal share an ordinal.
+     * Ordinal zero is reserved for the end of a string, so the ordinals of the characters run from one upwards.
+     * <p>
+     * NOTE: only the characters which are currently in this map are assigned ordinals (all others have ordinal zero).
+     * <p>
+     * NOTE: the ordinals are cached until the map changes (since characters are only ever added, or all cleared, a change of size suffices).
+     * The result is therefore shared and must not be mutated by the caller.
+     *
+     * @return an array, indexed by char, of ordinals.
+     */
+    public int[] getOrdinals() {
+        final int[] cached = ordinals;
+        if (cached != null && ordinalsSize == characters.size()) return cached;
+        final int size = characters.size();
+        final int[] result = buildOrdinals();
+        ordinals = result;
+        ordinalsSize = size;
+        return result;
+    }
+
+    private int[] buildOrdinals() {
+        final Character[] sorted = characters.keySet().toArray(new Character[0]);
+        final int n = sorted.length;
+        Arrays.sort(sorted, (x, y) -> characters.get(x).compareTo(characters.get(y)));
+        final int[] result = new int[Character.MAX_VALUE + 1];
+        int ordinal = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || characters.get(sorted[i]).compareTo(characters.get(sorted[i - 1])) != 0) ordinal++;
+            result[sorted[i]] = ordinal;
+        }
+        return result;
+    }
+
     /**
      * Method to get the dialect for this CharacterMap.
      * For example, for Chinese, we might specify "Hanyu" or "bopomofo."
@@ -138,15 +312,43 @@ public class CharacterMap {
      */
     public void clear() {
         characters.clear();
+        ordinals = null;
     }
 
     private final Map<Character, UnicodeCharacter> characters = new HashMap<>();
 
+    // NOTE: the cached result of getOrdinals, and the size of the map when it was built.
+    private int[] ordinals = null;
+    private int ordinalsSize = -1;
+
     private void put(final char x, final UnicodeCharacter value) {
         characters.put(x, value);
     }
 
+    /**
+     * A UnicodeCharacter which has been loaded from a snapshot.
+     */
+    private static final class SnapshotCharacter extends UnicodeCharacter {
+        SnapshotCharacter(final char unicode, final String alt, final long longCode) {
+            super(unicode, alt, longCode);
+        }
+
+        public long encode() {
+            return longCode;
+        }
+
+        public String alt() {
+            return alt;
+        }
+    }
+
     private final Function<Character, UnicodeCharacter> toUnicodeCharacter;
 
     private final String dialect;
+
+    private static final int MAGIC = 0x4853434D; // NOTE: "HSCM"
+    private static final char CJK_FIRST = '\u4E00';
+    private static final char CJK_LAST = '\u9FFF';
+
+    private final static LazyLogger logger = new LazyLogger(CharacterMap.class);
 }
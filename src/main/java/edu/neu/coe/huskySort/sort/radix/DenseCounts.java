@@ -0,0 +1,108 @@
+package edu.neu.coe.huskySort.sort.radix;
+
+import java.util.Arrays;
+
+/**
+ * Class to maintain a set of character counts for MSD radix sort, as an alternative to Counts.
+ * <p>
+ * Each character is represented by a dense ordinal (see CharacterMap.getOrdinals), which indexes an int array of counts.
+ * Thus, counting a character costs an array lookup rather than a tree lookup (and the boxing of its count).
+ * Ordinal zero represents the end of a string (i.e. UnicodeCharacter.NullChar).
+ * <p>
+ * NOTE: the count array has an element for every ordinal, so it is only appropriate where the number of strings to be counted
+ * is not much less than the number of ordinals (see UnicodeMSDStringSort).
+ */
+public class DenseCounts {
+
+    /**
+     * Method to count characters.
+     *
+     * @param xs   an array of UnicodeString objects.
+     * @param from the starting index of xs.
+     * @param to   the ending index of xs (first element NOT to be counted).
+     * @param d    the offset into the UnicodeStrings specifying which character position is to be counted.
+     */
+    public void countCharacters(final UnicodeString[] xs, final int from, final int to, final int d) {
+        for (int i = from; i < to; i++) counts[ordinal(xs[i], d) + 1]++;
+    }
+
+    /**
+     * Method to accumulate the character counts.
+     * Called after countCharacters has been completed.
+     * Thereafter, the count of each ordinal r is the (relative) index of the first string whose character has ordinal r.
+     */
+    public void accumulateCounts() {
+        for (int r = 0; r < radix; r++) counts[r + 1] += counts[r];
+    }
+
+    /**
+     * Method to copy xs into its place in aux.
+     * Called after accumulateCounts has been completed.
+     * Thereafter, the count of each ordinal r is the (relative) index of the first string whose character has ordinal r + 1.
+     * NOTE: both aux and this will be mutated by this method.
+     *
+     * @param xs  the UnicodeString to be copied into aux.
+     * @param aux the auxiliary storage of UnicodeString elements.
+     * @param d   the offset into xs.
+     */
+    void copyAndIncrementCount(final UnicodeString xs, final UnicodeString[] aux, final int d) {
+        aux[counts[ordinal(xs, d)]++] = xs;
+    }
+
+    /**
+     * Method to reset all the counts to zero, so that this DenseCounts may be re-used.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Method to get the (relative) index of the first string whose character follows ordinal r.
+     * Called after all strings have been copied (see copyAndIncrementCount).
+     *
+     * @param r an ordinal.
+     * @return the index of the end of the sub-array of strings whose character has ordinal r.
+     */
+    public int end(final int r) {
+        return counts[r];
+    }
+
+    /**
+     * @return the number of ordinals (including zero).
+     */
+    public int radix() {
+        return radix;
+    }
+
+    /**
+     * Method to determine the number of ordinals in an ordinal table.
+     *
+     * @param ordinals an ordinal table (see CharacterMap.getOrdinals).
+     * @return one more than the greatest ordinal.
+     */
+    public static int radix(final int[] ordinals) {
+        int result = 0;
+        for (final int ordinal : ordinals) if (ordinal > result) result = ordinal;
+        return result + 1;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ordinals the ordinal table, indexed by char (see CharacterMap.getOrdinals).
+     * @param radix    the number of ordinals (see radix(int[])).
+     */
+    public DenseCounts(final int[] ordinals, final int radix) {
+        this.ordinals = ordinals;
+        this.radix = radix;
+        this.counts = new int[radix + 1];
+    }
+
+    private int ordinal(final UnicodeString x, final int d) {
+        return d < x.word.length() ? ordinals[x.word.charAt(d)] : 0;
+    }
+
+    private final int[] ordinals;
+    private final int radix;
+    private final int[] counts;
+}
@@ -59,8 +59,10 @@ public final class MSDStringSort {
                 aux[count[alphabet.getCountIndex(charAt(a[i], d)) + 1]++] = a[i];
             // Copy back.
             if (hi - lo >= 0) System.arraycopy(aux, 0, a, lo, hi - lo);
-            // Recursively sort for each character value.
-            for (int r = 0; r < alphabet.counts(); r++)
+            // NOTE: the Strings which have ended (character value zero) must not be sorted recursively (they would never end).
+            insertionSort(a, lo + count[0], lo + count[1], d);
+            // Recursively sort for each (other) character value.
+            for (int r = 1; r < alphabet.counts(); r++)
                 sort(a, lo + count[r], lo + count[r + 1], d + 1);
         }
     }
@@ -77,7 +79,8 @@ public final class MSDStringSort {
     }
 
     private static boolean less(final String v, final String w, final int d) {
-        return v.substring(d).compareTo(w.substring(d)) < 0;
+        // NOTE: either String may be shorter than d (it will have been counted as ending with zero characters).
+        return v.substring(Math.min(d, v.length())).compareTo(w.substring(Math.min(d, w.length()))) < 0;
     }
 
     private static void swap(final Object[] a, final int j, final int i) {
@@ -0,0 +1,171 @@
+package edu.neu.coe.huskySort.sort.radix;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.util.LazyLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class is a multi-threaded MSD string sort (a radix sort), which sorts Strings into their natural order (as does MSDStringSort).
+ * <p>
+ * Each (UTF-16) character is treated as two digits (its high byte and then its low byte), so that the radix is only 256 (plus one for the end of a String)
+ * for every character of the BMP, regardless of the alphabet of the Strings.
+ * <p>
+ * Once a range has been distributed according to one digit, its buckets are independent of one another.
+ * So, any range larger than parallelThreshold is distributed by a ForkJoin task and each of its buckets is sorted by a separate task.
+ * Ranges at or below the threshold are sorted sequentially (and recursively) by a single task,
+ * and ranges smaller than CUTOFF are sorted by Arrays.sort.
+ * Each task allocates its own auxiliary array (of the size of its range), so that tasks share nothing but the (disjoint ranges of the) array to be sorted.
+ * <p>
+ * NOTE: the distribution of the top-level range is not itself parallel.
+ * CONSIDER counting the top-level range in parallel (the counts of the sub-ranges may simply be added).
+ */
+public final class ParallelMSDStringSort {
+
+    public static void main(final String[] args) {
+        final int N = 1000000;
+        final int m = 100;
+        logger.info("ParallelMSDStringSort.main: sorting " + N + " random alphabetic ASCII words " + m + " times with parallelism " + ForkJoinPool.commonPool().getParallelism());
+        final ParallelMSDStringSort sorter = new ParallelMSDStringSort();
+        for (int i = 0; i < m; i++) sorter.sort(HuskySortHelper.generateRandomAlphaBetaArray(N, 4, 9));
+        logger.info("ParallelMSDStringSort.main: finished");
+    }
+
+    /**
+     * Sort an array of Strings using ParallelMSDStringSort.
+     *
+     * @param xs the array to be sorted.
+     */
+    public void sort(final String[] xs) {
+        if (xs.length > parallelThreshold) pool.invoke(new SortTask(xs, 0, xs.length, 0, parallelThreshold));
+        else sort(xs, 0, xs.length, 0, new String[xs.length]);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param parallelThreshold the size of range above which the buckets will be sorted by separate tasks.
+     * @param pool              the ForkJoinPool in which to run the tasks.
+     */
+    public ParallelMSDStringSort(final int parallelThreshold, final ForkJoinPool pool) {
+        this.parallelThreshold = Math.max(parallelThreshold, CUTOFF);
+        this.pool = pool;
+    }
+
+    /**
+     * Secondary constructor which uses the default threshold and the common ForkJoinPool.
+     */
+    public ParallelMSDStringSort() {
+        this(DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Task which distributes the range from..to according to digit d
+     * and then sorts each of the resulting buckets as a separate task.
+     * If the range is no larger than the parallel threshold, it is sorted sequentially instead.
+     */
+    private static class SortTask extends RecursiveAction {
+        SortTask(final String[] xs, final int from, final int to, final int d, final int parallelThreshold) {
+            this.xs = xs;
+            this.from = from;
+            this.to = to;
+            this.d = d;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            final int n = to - from;
+            if (n <= parallelThreshold) {
+                sort(xs, from, to, d, new String[n]);
+                return;
+            }
+            final int[] count = distribute(xs, from, to, d, new String[n]);
+            final List<SortTask> tasks = new ArrayList<>();
+            // NOTE: the Strings which have ended (digit zero) are all equal, so bucket zero is already sorted.
+            for (int r = 1; r < RADIX; r++)
+                if (count[r] - count[r - 1] > 1)
+                    tasks.add(new SortTask(xs, from + count[r - 1], from + count[r], d + 1, parallelThreshold));
+            invokeAll(tasks);
+        }
+
+        private final String[] xs;
+        private final int from;
+        private final int to;
+        private final int d;
+        private final int parallelThreshold;
+    }
+
+    /**
+     * Sort from xs[from] to xs[to] (exclusive), ignoring the first d digits of each String.
+     * This method is recursive.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the low index.
+     * @param to   the high index (one above the highest actually processed).
+     * @param d    the number of digits in each String to be skipped.
+     * @param aux  the auxiliary array (of length at least to - from).
+     */
+    private static void sort(final String[] xs, final int from, final int to, final int d, final String[] aux) {
+        if (to - from < CUTOFF) {
+            // NOTE: we compare the whole Strings (rather than their suffixes), which is correct since their first d digits agree.
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        final int[] count = distribute(xs, from, to, d, aux);
+        // NOTE: the Strings which have ended (digit zero) are all equal, so bucket zero is already sorted.
+        for (int r = 1; r < RADIX; r++)
+            sort(xs, from + count[r - 1], from + count[r], d + 1, aux);
+    }
+
+    /**
+     * Method to distribute the range from xs[from] to xs[to] (exclusive) according to digit d, via aux.
+     *
+     * @param xs   the array to be distributed.
+     * @param from the low index.
+     * @param to   the high index (one above the highest actually processed).
+     * @param d    the digit according to which the Strings are distributed.
+     * @param aux  the auxiliary array (of length at least to - from).
+     * @return an array of counts, such that the bucket of digit r ends at (relative) index count[r].
+     */
+    private static int[] distribute(final String[] xs, final int from, final int to, final int d, final String[] aux) {
+        final int[] count = new int[RADIX + 1];
+        for (int i = from; i < to; i++) count[digit(xs[i], d) + 1]++;
+        for (int r = 0; r < RADIX; r++) count[r + 1] += count[r];
+        for (int i = from; i < to; i++) aux[count[digit(xs[i], d)]++] = xs[i];
+        // Copy back.
+        System.arraycopy(aux, 0, xs, from, to - from);
+        return count;
+    }
+
+    /**
+     * Method to get digit d of a String: the even digits are the high bytes of its characters and the odd digits the low bytes.
+     *
+     * @param s a String.
+     * @param d the index of the digit.
+     * @return one more than the value of the digit, or zero if s has no such digit.
+     */
+    private static int digit(final String s, final int d) {
+        final int i = d >> 1;
+        if (i >= s.length()) return 0;
+        final char c = s.charAt(i);
+        return ((d & 1) == 0 ? c >>> 8 : c & 0xFF) + 1;
+    }
+
+    private static final int RADIX = 256 + 1;
+    // NOTE: this is the size of range below which a comparison sort is used.
+    // It is relatively large because a run of equal Strings would otherwise be distributed once for every digit.
+    private static final int CUTOFF = 256;
+
+    // NOTE: this is the size of range below which the overhead of a new task is not worthwhile.
+    static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    private final static LazyLogger logger = new LazyLogger(ParallelMSDStringSort.class);
+}
@@ -3,11 +3,15 @@ package edu.neu.coe.huskySort.sort.radix;
 import edu.neu.coe.huskySort.sort.huskySortUtils.UnicodeCharacter;
 import edu.neu.coe.huskySort.util.LazyLogger;
 
+import java.util.Arrays;
 import java.util.Random;
 
 /**
  * Class to implement Most significant digit string sort (a radix sort) for UnicodeCharacters with custom collation mechanisms.
  * The custom collation is defined by the instance of CharacterMap passed in to the constructor.
+ * <p>
+ * The characters are counted by DenseCounts, using the ordinals of the CharacterMap (see CharacterMap.getOrdinals),
+ * except where a sub-array is small compared with the number of ordinals, in which case they are counted by Counts.
  */
 public final class UnicodeMSDStringSort extends BaseCountingSort<UnicodeString, UnicodeCharacter> {
 
@@ -19,7 +23,10 @@ public final class UnicodeMSDStringSort extends BaseCountingSort<UnicodeString,
      * @param to   the index of the first element not to sort.
      */
     public void sort(final UnicodeString[] us, final int from, final int to) {
-        doRecursiveSort(us, from, to - from, 0);
+        // NOTE: the ordinals are determined here, since the CharacterMap now contains every character of us.
+        // They are held only in local variables (not in fields), so that this sorter may be used by several threads at once.
+        final int[] ordinals = characterMap.getOrdinals();
+        doSort(us, from, to, new DenseCounts(ordinals, DenseCounts.radix(ordinals)));
     }
 
     /**
@@ -53,51 +60,98 @@ public final class UnicodeMSDStringSort extends BaseCountingSort<UnicodeString,
     }
 
     /**
-     * Sort from xs[from] to xs[to] (exclusive), ignoring the first d characters of each String.
-     * This method is recursive.
+     * Sort from xs[from] to xs[to] (exclusive).
+     * <p>
+     * Rather than recursing, this method maintains an explicit stack of ranges (each with the number of characters to be skipped),
+     * so that long common prefixes cannot overflow the call stack.
+     * A single auxiliary array (and a single DenseCounts) serves for every range, since each range is copied back before the next is sorted.
+     * Ranges which are small enough for insertion sort are sorted as soon as they are found, so only the larger ranges are pushed.
      *
-     * @param xs   the array to be sorted.
-     * @param from the low index.
-     * @param to   the high index (one above the highest actually processed).
-     * @param d    the number of characters in each UnicodeString to be skipped.
+     * @param xs          the array to be sorted.
+     * @param from        the low index.
+     * @param to          the high index (one above the highest actually processed).
+     * @param denseCounts the DenseCounts (for the ordinals of the CharacterMap) to be (re-)used for counting.
      */
-    private void doRecursiveSort(final UnicodeString[] xs, final int from, final int to, final int d) {
+    private void doSort(final UnicodeString[] xs, final int from, final int to, final DenseCounts denseCounts) {
         assert from >= 0 : "from " + from + " is negative";
         assert to <= xs.length : "to " + to + " is out of bounds: " + xs.length;
+        final UnicodeString[] aux = new UnicodeString[Math.max(to - from, 0)];
+        final RangeStack stack = new RangeStack();
+        schedule(xs, from, to, 0, stack);
+        while (!stack.isEmpty()) {
+            stack.pop();
+            sortRange(xs, stack.from, stack.to, stack.d, aux, denseCounts, stack);
+        }
+    }
+
+    /**
+     * Method to sort the range from xs[from] to xs[to] (exclusive) immediately (if it is small) or else push it onto the stack.
+     *
+     * @param xs    the array to be sorted.
+     * @param from  the low index.
+     * @param to    the high index (one above the highest actually processed).
+     * @param d     the number of characters in each UnicodeString to be skipped.
+     * @param stack the stack of ranges which remain to be sorted.
+     */
+    private void schedule(final UnicodeString[] xs, final int from, final int to, final int d, final RangeStack stack) {
         final int n = to - from;
-        if (logger.isTraceEnabled())
-            logger.trace("UnicodeMSDStringSort.doRecursiveSort: on " + (d > 0 ? xs[from].charAt(d - 1) : "root") + " from=" + from + ", to=" + to + ", d=" + d);
         // XXX if there are fewer than two elements, we return immediately because xs is already sorted.
         if (n < 2) return;
         // XXX if there is a small number of elements, we switch to insertion sort.
         if (n < helper.getCutoff()) insertionSort(xs, from, to, d);
-        else {
-            // CONSIDER is this the correct place to allocate aux?
-            final UnicodeString[] aux = new UnicodeString[n];
-            final Counts counts = new Counts();
-            counts.countCharacters(xs, from, to, d);
-            final UnicodeCharacter[] keys = counts.accumulateCounts();
-            for (int i = from; i < to; i++) {
-                final UnicodeString xsi = xs[i];
-                counts.copyAndIncrementCount(xsi, aux, d);
-            }
-            if (helper.instrumented()) {
-                final int copies = 2 * n;  // copy and copy back
-                helper.getInstrumenter().incrementCopies(copies);
-                helper.getInstrumenter().incrementHits(n); // this accounts for the counting of the elements.
-            }
+        else stack.push(from, to, d);
+    }
+
+    /**
+     * Distribute the range from xs[from] to xs[to] (exclusive) according to the character at position d,
+     * and then schedule each of the resulting sub-ranges (except that of the strings which end before d) to be sorted on position d + 1.
+     *
+     * @param xs          the array to be sorted.
+     * @param from        the low index.
+     * @param to          the high index (one above the highest actually processed).
+     * @param d           the number of characters in each UnicodeString to be skipped.
+     * @param aux         the auxiliary array (of length at least to - from).
+     * @param denseCounts the DenseCounts to be (re-)used for counting.
+     * @param stack       the stack of ranges which remain to be sorted.
+     */
+    private void sortRange(final UnicodeString[] xs, final int from, final int to, final int d, final UnicodeString[] aux, final DenseCounts denseCounts, final RangeStack stack) {
+        final int n = to - from;
+        if (logger.isTraceEnabled())
+            logger.trace("UnicodeMSDStringSort.sortRange: on " + (d > 0 ? xs[from].charAt(d - 1) : "root") + " from=" + from + ", to=" + to + ", d=" + d);
+        final int radix = denseCounts.radix();
+        if (radix <= DENSE_FACTOR * n) {
+            denseCounts.clear();
+            denseCounts.countCharacters(xs, from, to, d);
+            denseCounts.accumulateCounts();
+            for (int i = from; i < to; i++) denseCounts.copyAndIncrementCount(xs[i], aux, d);
+            countCopiesAndHits(n);
             // XXX Copy back.
             System.arraycopy(aux, 0, xs, from, n);
-            int offset = 0;
-            // XXX For each key, recursively sort the appropriate sub-array on the next character position (p).
-            final int p = d + 1;
-            for (final UnicodeCharacter key : keys) {
-                if (key == UnicodeCharacter.NullChar)
-                    continue;
-                final int index = counts.get(key);
-                doRecursiveSort(xs, from + offset, from + index, p);
-                offset = index;
-            }
+            // XXX For each ordinal (except zero, the end of a string), sort the appropriate sub-range on the next character position.
+            for (int r = 1; r < radix; r++) schedule(xs, from + denseCounts.end(r - 1), from + denseCounts.end(r), d + 1, stack);
+            return;
+        }
+        final Counts counts = new Counts();
+        counts.countCharacters(xs, from, to, d);
+        final UnicodeCharacter[] keys = counts.accumulateCounts();
+        for (int i = from; i < to; i++) counts.copyAndIncrementCount(xs[i], aux, d);
+        countCopiesAndHits(n);
+        // XXX Copy back.
+        System.arraycopy(aux, 0, xs, from, n);
+        int offset = 0;
+        // XXX For each key, sort the appropriate sub-range on the next character position.
+        for (final UnicodeCharacter key : keys) {
+            final int index = counts.get(key);
+            if (key != UnicodeCharacter.NullChar) schedule(xs, from + offset, from + index, d + 1, stack);
+            offset = index;
+        }
+    }
+
+    private void countCopiesAndHits(final int n) {
+        if (helper.instrumented()) {
+            final int copies = 2 * n;  // copy and copy back
+            helper.getInstrumenter().incrementCopies(copies);
+            helper.getInstrumenter().incrementHits(n); // this accounts for the counting of the elements.
         }
     }
 
@@ -121,4 +175,37 @@ public final class UnicodeMSDStringSort extends BaseCountingSort<UnicodeString,
 
     private final CharacterMap characterMap; // NOTE this is used, despite IDEA's analysis.
     private final CountingSortHelper<UnicodeString, UnicodeCharacter> helper;
+
+    // NOTE: DenseCounts is used only where the number of ordinals is no more than DENSE_FACTOR times the number of strings.
+    private static final int DENSE_FACTOR = 4;
+
+    /**
+     * A stack of ranges, each of which is represented by three ints: from, to and d.
+     * The most recently popped range is available in the fields from, to and d.
+     */
+    private static final class RangeStack {
+        void push(final int from, final int to, final int d) {
+            if (size + 3 > ranges.length) ranges = Arrays.copyOf(ranges, 2 * ranges.length);
+            ranges[size++] = from;
+            ranges[size++] = to;
+            ranges[size++] = d;
+        }
+
+        void pop() {
+            d = ranges[--size];
+            to = ranges[--size];
+            from = ranges[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int from;
+        int to;
+        int d;
+
+        private int[] ranges = new int[3 * 64];
+        private int size = 0;
+    }
 }
\ No newline at end of file
@@ -30,11 +30,9 @@ public class Config {
         for (final Map.Entry<String, Profile.Section> entry : this.ini.entrySet())
             for (final Map.Entry<String, String> x : entry.getValue().entrySet())
                 ini.put(entry.getKey(), x.getKey(), x.getValue());
-        final Config result = new Config(ini);
-        final Profile.Section section = result.ini.get(sectionName);
-        section.replace(optionName, value);
-        result.ini.replace(sectionName, section);
-        return result;
+        // NOTE: Ini.put will create the section and/or option if they are not already present.
+        ini.put(sectionName, optionName, value);
+        return new Config(ini);
     }
 
     public String get(final Object sectionName, final Object optionName, final String defaultValue) {
@@ -0,0 +1,83 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskySortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.SequenceEncoder_Collator;
+import org.junit.Test;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CollationKeyHuskySortTest {
+
+    @Test
+    public void testSortChinese() {
+        final String[] xs = {"张三", "李四", "王五", "阿毛", "赵六", "李", "张三丰", "钱七"};
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, collator);
+        new CollationKeyHuskySort(coder, false).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortRandom() {
+        final String[] xs = HuskySortHelper.generateRandomAlphaBetaArray(10000, 2, 12);
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, collator);
+        new CollationKeyHuskySort(coder, true).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSameAsPureHuskySort() {
+        final String[] xs = HuskySortHelper.generateRandomAlphaBetaArray(1000, 1, 20);
+        final String[] ys = Arrays.copyOf(xs, xs.length);
+        new PureHuskySort<>(coder, false, false).sort(xs);
+        new CollationKeyHuskySort(coder, false).sort(ys);
+        assertArrayEquals(xs, ys);
+    }
+
+    @Test
+    public void testSortShortKeys() {
+        // NOTE: the collation keys of "\u00A0" and "\u00AD" are shorter than those of "  " and "-", which precede them.
+        final String[] xs = {"\u00A0", "  ", "\u00AD", "-"};
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, collator);
+        new CollationKeyHuskySort(coder, false).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortIgnorableCharacters() {
+        // NOTE: soft hyphens and non-breaking spaces give short (or empty) primary keys.
+        final Random random = new Random(0L);
+        final String alphabet = "\u00AD\u00A0 -a\u00E9\u963F";
+        final String[] xs = new String[5000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(5);
+            for (int j = 0; j < length; j++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            xs[i] = sb.toString();
+        }
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, collator);
+        new CollationKeyHuskySort(coder, false).sort(xs);
+        // NOTE: Strings which collate as equal may legitimately appear in either order, so we compare the collation keys.
+        for (int i = 0; i < xs.length; i++) assertEquals(xs[i], 0, collator.compare(expected[i], xs[i]));
+    }
+
+    @Test
+    public void testSortEmpty() {
+        final String[] xs = new String[0];
+        new CollationKeyHuskySort(coder, false).sort(xs);
+        assertArrayEquals(new String[0], xs);
+    }
+
+    private final SequenceEncoder_Collator coder = (SequenceEncoder_Collator) HuskyCoderFactory.chineseEncoderCollator;
+    private final Collator collator = Collator.getInstance(Locale.CHINA);
+}
@@ -0,0 +1,91 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ExternalHuskySortTest {
+
+    @Test
+    public void testSort() throws IOException {
+        final Path directory = Files.createTempDirectory("husky");
+        final String[] lines = randomLines(10000, "abcdefghij", 0L);
+        final File input = writeLines(directory, lines);
+        final File output = new File(directory.toFile(), "output.txt");
+        final int runs = new ExternalHuskySort(HuskyCoderFactory.unicodeCoder, 1000, directory.toFile()).sort(input, output);
+        assertEquals(10, runs);
+        checkSorted(lines, output);
+        // NOTE: the runs have all been deleted.
+        assertEquals(2, Objects.requireNonNull(directory.toFile().list()).length);
+    }
+
+    @Test
+    public void testSortSingleChunk() throws IOException {
+        final Path directory = Files.createTempDirectory("husky");
+        final String[] lines = randomLines(100, "abcdefghij", 1L);
+        final File input = writeLines(directory, lines);
+        final File output = new File(directory.toFile(), "output.txt");
+        assertEquals(1, new ExternalHuskySort(HuskyCoderFactory.unicodeCoder, 1000, directory.toFile()).sort(input, output));
+        checkSorted(lines, output);
+    }
+
+    @Test
+    public void testSortEmpty() throws IOException {
+        final Path directory = Files.createTempDirectory("husky");
+        final File input = writeLines(directory, new String[0]);
+        final File output = new File(directory.toFile(), "output.txt");
+        assertEquals(0, new ExternalHuskySort(HuskyCoderFactory.unicodeCoder, 10, directory.toFile()).sort(input, output));
+        assertEquals(0, Files.readAllLines(output.toPath()).size());
+    }
+
+    @Test
+    public void testSortNotMonotone() throws IOException {
+        final Path directory = Files.createTempDirectory("husky");
+        // NOTE: the ASCII coder does not order these characters correctly.
+        final String[] lines = randomLines(5000, "aézĀ", 2L);
+        final File input = writeLines(directory, lines);
+        final File output = new File(directory.toFile(), "output.txt");
+        assertEquals(5, new ExternalHuskySort(HuskyCoderFactory.asciiCoder, 1000, directory.toFile()).sort(input, output));
+        checkSorted(lines, output);
+    }
+
+    @Test(expected = SortException.class)
+    public void testBadChunkSize() {
+        new ExternalHuskySort(HuskyCoderFactory.unicodeCoder, 0, null);
+    }
+
+    private static void checkSorted(final String[] lines, final File output) throws IOException {
+        final String[] expected = Arrays.copyOf(lines, lines.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Files.readAllLines(output.toPath(), StandardCharsets.UTF_8).toArray(new String[0]));
+    }
+
+    private static String[] randomLines(final int n, final String alphabet, final long seed) {
+        final Random random = new Random(seed);
+        final String[] result = new String[n];
+        for (int i = 0; i < n; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            result[i] = sb.toString();
+        }
+        return result;
+    }
+
+    private static File writeLines(final Path directory, final String[] lines) throws IOException {
+        final File file = new File(directory.toFile(), "input.txt");
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
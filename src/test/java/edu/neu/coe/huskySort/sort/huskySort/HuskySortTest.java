@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.chrono.ChronoLocalDateTime;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -195,6 +196,33 @@ public class HuskySortTest {
         assertEquals(0.0, ii, 10);
     }
 
+    @Test
+    public void testSortString9() {
+        final int N = 1000;
+        final Config config = ConfigTest.setupConfig("false", "0", "1", "", "").copy("huskyhelper", "indexpermutation", "true");
+        final IntroHuskySort<String> sorter = new IntroHuskySort<>("IntroHuskySort/IndexPermutation", HuskyCoderFactory.englishCoder, Arrays::sort, config);
+        final HuskyHelper<String> helper = sorter.getHelper();
+        helper.init(N);
+        final String[] xs = generateRandomAlphaBetaArray(N, 4, 10);
+        final String[] ys = sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(ys));
+        sorter.close();
+    }
+
+    @Test
+    public void testSortString10() {
+        final int N = 1000;
+        final Config config = ConfigTest.setupConfig("false", "0", "1", "", "").copy("huskyhelper", "runlocalpostsort", "true");
+        final QuickHuskySort<String> sorter = new QuickHuskySort<>(HuskyCoderFactory.asciiCoder, config);
+        final HuskyHelper<String> helper = sorter.getHelper();
+        assertTrue(helper.isRunLocalPostSort());
+        helper.init(N);
+        final String[] xs = generateRandomAlphaBetaArray(N, 8, 12);
+        final String[] ys = sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(ys));
+        sorter.close();
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testSortOldDate() {
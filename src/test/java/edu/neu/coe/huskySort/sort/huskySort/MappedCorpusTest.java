@@ -0,0 +1,93 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+
+public class MappedCorpusTest {
+
+    @Test
+    public void testWords() throws IOException {
+        final File file = writeCorpus("﻿1\tHello, world! Hello again\n" +
+                "2\t，中文 ab-cd x 42 ignored words\r\n" +
+                "no tab here\n" +
+                "3\tÉcole été\n" +
+                "4\tlast line without newline");
+        final String[] words = MappedCorpus.map(file).words(2);
+        assertArrayEquals(new String[]{"Hello", "world", "again", "中文", "ab", "cd", "École", "été", "last", "line", "without", "newline"}, words);
+    }
+
+    @Test
+    public void testWordsEnglish() throws IOException, URISyntaxException {
+        checkWords("eng-uk_web_2002_10K-sentences.txt");
+    }
+
+    @Test
+    public void testWordsChinese() throws IOException, URISyntaxException {
+        checkWords("zho-simp-tw_web_2014_10K-sentences.txt");
+    }
+
+    @Test
+    public void testSlices() throws IOException, URISyntaxException {
+        final MappedCorpus corpus = MappedCorpus.map(getFile("zho-simp-tw_web_2014_10K-sentences.txt"));
+        final MappedCorpus.Slices slices = corpus.slices(2);
+        final int[] count = new int[1];
+        corpus.forEachWord((offset, length, chars) -> {
+            if (chars >= 2) count[0]++;
+        });
+        assertEquals(count[0], slices.size());
+        assertFalse(slices.perfect);
+        for (int i = 0; i < slices.size(); i++) {
+            final String word = corpus.word(slices.offsets[i], slices.lengths[i]);
+            assertEquals(word, HuskyCoderFactory.unicodeCoder.huskyEncode(word), slices.codes[i]);
+        }
+    }
+
+    @Test
+    public void testUnicodeCodeSupplementary() throws IOException {
+        final String word = "a𝐀bcd";
+        final File file = writeCorpus("1\t" + word);
+        final MappedCorpus corpus = MappedCorpus.map(file);
+        assertEquals(HuskyCoderFactory.unicodeCoder.huskyEncode(word), corpus.unicodeCode(2, corpus.size() - 2));
+        assertArrayEquals(new String[]{word}, corpus.words(2));
+    }
+
+    @Test
+    public void testIsSeparator() {
+        assertTrue(MappedCorpus.isSeparator(' '));
+        assertTrue(MappedCorpus.isSeparator('~'));
+        assertTrue(MappedCorpus.isSeparator('_'));
+        assertTrue(MappedCorpus.isSeparator(0xFF0C));
+        assertFalse(MappedCorpus.isSeparator('a'));
+        assertFalse(MappedCorpus.isSeparator('0'));
+        assertFalse(MappedCorpus.isSeparator('。'));
+    }
+
+    private static void checkWords(final String resource) throws IOException, URISyntaxException {
+        final File file = getFile(resource);
+        final String[] expected = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).stream()
+                .flatMap(line -> HuskySortBenchmarkHelper.splitLineIntoStrings(line, HuskySortBenchmark.REGEX_LEIPZIG, HuskySortBenchmarkHelper.REGEX_STRING_SPLITTER).stream())
+                .distinct().filter(s -> s.length() >= 2).toArray(String[]::new);
+        assertArrayEquals(expected, MappedCorpus.map(file).words(2));
+    }
+
+    private static File getFile(final String resource) throws URISyntaxException {
+        return new File(Objects.requireNonNull(MappedCorpusTest.class.getClassLoader().getResource(resource)).toURI());
+    }
+
+    private static File writeCorpus(final String content) throws IOException {
+        final File file = File.createTempFile("corpus", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), List.of(content), StandardCharsets.UTF_8);
+        return file;
+    }
+}
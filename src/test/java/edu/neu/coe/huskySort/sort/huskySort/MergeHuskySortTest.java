@@ -2,11 +2,13 @@ package edu.neu.coe.huskySort.sort.huskySort;
 
 import edu.neu.coe.huskySort.sort.ComparableSortHelper;
 import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyWorkspace;
 import org.junit.Test;
 
 import java.math.BigInteger;
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class MergeHuskySortTest {
@@ -76,4 +78,24 @@ public class MergeHuskySortTest {
         final long result = l >= 0L ? l : l == Long.MIN_VALUE ? 0L : -l;
         return String.format("%19d", result);
     }
+
+    @Test
+    public void testSortWithWorkspace() {
+        final HuskyWorkspace workspace = new HuskyWorkspace();
+        final MergeHuskySort<String> sorter = new MergeHuskySort<>(HuskyCoderFactory.asciiCoder, workspace);
+        final Random random = new Random(0L);
+        sorter.sort(randomStrings(random, 1000));
+        final int capacity = workspace.capacity();
+        // NOTE: a smaller array is sorted within the existing workspace.
+        final String[] xs = randomStrings(random, 500);
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+        assertEquals(capacity, workspace.capacity());
+    }
+
+    private static String[] randomStrings(final Random random, final int n) {
+        final String[] result = new String[n];
+        for (int i = 0; i < n; i++) result[i] = nextPositiveLongString(random);
+        return result;
+    }
 }
@@ -0,0 +1,62 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.ComparableSortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelPureHuskySortTest {
+
+    private final ComparableSortHelper<String> helper = new ComparableSortHelper<>("dummy helper");
+
+    @Test
+    public void testSortString1() {
+        final String[] xs = {"Hello", "Goodbye", "Ciao", "Willkommen"};
+        final ParallelPureHuskySort<String> sorter = new ParallelPureHuskySort<>(HuskyCoderFactory.unicodeCoder, false);
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+    }
+
+    @Test
+    public void testSortString2() {
+        final ParallelPureHuskySort<String> sorter = new ParallelPureHuskySort<>(HuskyCoderFactory.asciiCoder, false, 100, new ForkJoinPool(4));
+        final int N = 100000;
+        helper.init(N);
+        final String[] xs = helper.random(String.class, r -> r.nextLong() + "");
+        final String[] expected = Arrays.copyOf(xs, N);
+        Arrays.sort(expected);
+        sorter.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortString3() {
+        final ParallelPureHuskySort<String> sorter = new ParallelPureHuskySort<>(HuskyCoderFactory.englishCoder, true, 1000, ForkJoinPool.commonPool());
+        final int N = 50000;
+        helper.init(N);
+        // NOTE: many duplicates.
+        final String[] xs = helper.random(String.class, r -> "w" + r.nextInt(1000));
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+    }
+
+    @Test
+    public void testSortString4() {
+        final String[] xs = {"刘持平", "洪文胜", "樊辉辉", "苏会敏", "高民政", "曹玉德", "袁继鹏", "舒冬梅", "杨腊香", "许凤山", "王广风", "黄锡鸿", "罗庆富", "顾芳芳", "宋雪光", "王诗卉"};
+        final ParallelPureHuskySort<String> sorter = new ParallelPureHuskySort<>(HuskyCoderFactory.chineseEncoderCollator, false);
+        sorter.sort(xs);
+        final String[] sorted = {"曹玉德", "樊辉辉", "高民政", "顾芳芳", "洪文胜", "黄锡鸿", "刘持平", "罗庆富", "舒冬梅", "宋雪光", "苏会敏", "王广风", "王诗卉", "许凤山", "杨腊香", "袁继鹏"};
+        assertArrayEquals(sorted, xs);
+    }
+
+    @Test
+    public void testSortEmpty() {
+        final String[] xs = new String[0];
+        new ParallelPureHuskySort<>(HuskyCoderFactory.asciiCoder, false).sort(xs);
+        assertEquals(0, xs.length);
+    }
+}
@@ -0,0 +1,73 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveHuskySortTest {
+
+    @Test
+    public void testSortInt() {
+        final int[] xs = new Random(0L).ints(10000).toArray();
+        final int[] expected = xs.clone();
+        Arrays.sort(expected);
+        PrimitiveHuskySort.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortLong() {
+        final long[] xs = new Random(0L).longs(10000).toArray();
+        final long[] expected = xs.clone();
+        Arrays.sort(expected);
+        PrimitiveHuskySort.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortLongDuplicates() {
+        final long[] xs = new Random(0L).longs(10000, -10, 10).toArray();
+        final long[] expected = xs.clone();
+        Arrays.sort(expected);
+        PrimitiveHuskySort.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortDouble() {
+        final Random random = new Random(0L);
+        final double[] xs = new double[10000];
+        for (int i = 0; i < xs.length; i++) xs[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10);
+        final double[] expected = xs.clone();
+        Arrays.sort(expected);
+        PrimitiveHuskySort.sort(xs);
+        assertArrayEquals(expected, xs, 0);
+    }
+
+    @Test
+    public void testSortDoubleSpecial() {
+        final double[] xs = {Double.NaN, 1.0, -0.0, Double.NEGATIVE_INFINITY, 0.0, Double.MIN_VALUE, -Double.MAX_VALUE, Double.POSITIVE_INFINITY, -1.0};
+        final double[] expected = xs.clone();
+        Arrays.sort(expected);
+        PrimitiveHuskySort.sort(xs);
+        for (int i = 0; i < xs.length; i++)
+            assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(xs[i]));
+    }
+
+    @Test
+    public void testDoubleToLong() {
+        assertTrue(PrimitiveHuskySort.doubleToLong(-0.0) < PrimitiveHuskySort.doubleToLong(0.0));
+        assertTrue(PrimitiveHuskySort.doubleToLong(-2.0) < PrimitiveHuskySort.doubleToLong(-1.0));
+        assertEquals(-1.5, PrimitiveHuskySort.longToDouble(PrimitiveHuskySort.doubleToLong(-1.5)), 0);
+    }
+
+    @Test
+    public void testSortEmpty() {
+        final int[] xs = new int[0];
+        PrimitiveHuskySort.sort(xs);
+        assertEquals(0, xs.length);
+    }
+}
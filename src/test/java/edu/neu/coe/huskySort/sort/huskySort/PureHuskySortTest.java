@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -77,6 +78,17 @@ public class PureHuskySortTest {
         assertArrayEquals(sorted, xs);
     }
 
+    @Test
+    public void testSortCollatorShortKeys() {
+        // NOTE: the collation keys of "\u00A0" and "\u00AD" are shorter than those of "  " and "-", which precede them.
+        final String[] xs = {"\u00A0", "  ", "\u00AD", "-"};
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, HuskyCoderFactory.chineseEncoderCollator.getCollator());
+        new PureHuskySort<>(HuskyCoderFactory.chineseEncoderCollator, false, false).sort(xs);
+        assertArrayEquals(expected, xs);
+        assertArrayEquals(new String[]{"  ", "\u00A0", "-", "\u00AD"}, xs);
+    }
+
     // FIXME this test should work correctly.
     @Test
     public void testSortString7() {
@@ -90,6 +102,93 @@ public class PureHuskySortTest {
         assertArrayEquals(sorted, xs);
     }
 
+    @Test
+    public void testSortString8() {
+        final PureHuskySort<String> sorter = new PureHuskySort<>(HuskyCoderFactory.asciiCoder, false, false, false, true);
+        final int N = 10000;
+        helper.init(N);
+        final String[] xs = helper.random(String.class, r -> r.nextLong() + "");
+        final String[] expected = Arrays.copyOf(xs, N);
+        Arrays.sort(expected);
+        sorter.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortString9() {
+        final PureHuskySort<String> sorter = new PureHuskySort<>(HuskyCoderFactory.unicodeMultiLevelCoder, false, false);
+        final String[] xs = {"/usr/local/lib/libz.so", "/usr/local/lib/liba.so", "/usr/local/bin/zip", "/usr/lib", "/usr/local/lib/libz.so.1", "/usr/local/lib/libz.so"};
+        sorter.sort(xs);
+        assertArrayEquals(new String[]{"/usr/lib", "/usr/local/bin/zip", "/usr/local/lib/liba.so", "/usr/local/lib/libz.so", "/usr/local/lib/libz.so", "/usr/local/lib/libz.so.1"}, xs);
+    }
+
+    @Test
+    public void testSortTopK1() {
+        final PureHuskySort<String> sorter = new PureHuskySort<>(HuskyCoderFactory.asciiCoder, false, false);
+        final int N = 10000;
+        helper.init(N);
+        final String[] xs = helper.random(String.class, r -> r.nextLong() + "");
+        final String[] expected = Arrays.copyOf(xs, N);
+        Arrays.sort(expected);
+        sorter.sortTopK(xs, 100);
+        assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(xs, 100));
+        // NOTE: the remaining elements are all present, though not in order.
+        Arrays.sort(xs, 100, N);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortTopK2() {
+        // NOTE: these strings share long prefixes so that many of them share the k-th code.
+        final PureHuskySort<String> sorter = new PureHuskySort<>(HuskyCoderFactory.unicodeCoder, true, false);
+        final Random random = new Random(0L);
+        final String[] xs = new String[5000];
+        for (int i = 0; i < xs.length; i++) xs[i] = "prefix" + random.nextInt(1000);
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        sorter.sortTopK(xs, 10);
+        assertArrayEquals(Arrays.copyOf(expected, 10), Arrays.copyOf(xs, 10));
+    }
+
+    @Test
+    public void testSortTopK3() {
+        final PureHuskySort<String> sorter = new PureHuskySort<>(HuskyCoderFactory.asciiCoder, false, false);
+        final String[] xs = {"Hello", "Goodbye", "Ciao", "Willkommen"};
+        sorter.sortTopK(xs, 0);
+        assertArrayEquals(new String[]{"Hello", "Goodbye", "Ciao", "Willkommen"}, xs);
+        sorter.sortTopK(xs, 10);
+        assertArrayEquals(new String[]{"Ciao", "Goodbye", "Hello", "Willkommen"}, xs);
+    }
+
+    @Test
+    public void testSortTopKNotMonotone() {
+        // NOTE: the ASCII coder masks off the high bit of 'é' so that its code is less than that of "z".
+        final PureHuskySort<String> sorter = new PureHuskySort<>(HuskyCoderFactory.asciiCoder, false, false);
+        final String[] xs = new String[100];
+        for (int i = 0; i < xs.length; i++) xs[i] = (i % 2 == 0 ? "é" : "z") + "-long-suffix-" + i;
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        sorter.sortTopK(xs, 20);
+        assertArrayEquals(Arrays.copyOf(expected, 20), Arrays.copyOf(xs, 20));
+    }
+
+    @Test
+    public void testSelect() {
+        final Random random = new Random(0L);
+        final Long[] xs = new Long[1000];
+        final long[] longs = new long[1000];
+        for (int i = 0; i < xs.length; i++) longs[i] = xs[i] = (long) random.nextInt(100);
+        final long[] expected = Arrays.copyOf(longs, longs.length);
+        Arrays.sort(expected);
+        PureHuskySort.select(xs, longs, 0, xs.length, 500);
+        assertEquals(expected[500], longs[500]);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(longs[i], xs[i].longValue());
+            if (i < 500) assertTrue(longs[i] <= longs[500]);
+            else assertTrue(longs[i] >= longs[500]);
+        }
+    }
+
     @Test
     public void testFloorLg() {
         final PrivateMethodInvoker privateMethodInvoker = new PrivateMethodInvoker(PureHuskySort.class);
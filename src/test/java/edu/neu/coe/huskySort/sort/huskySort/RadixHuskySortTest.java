@@ -0,0 +1,77 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.ComparableSortHelper;
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RadixHuskySortTest {
+
+    private final ComparableSortHelper<String> helper = new ComparableSortHelper<>("dummy helper");
+
+    @Test
+    public void testSortString1() {
+        final String[] xs = {"Hello", "Goodbye", "Ciao", "Willkommen"};
+        final RadixHuskySort<String> sorter = new RadixHuskySort<>(HuskyCoderFactory.unicodeCoder);
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+    }
+
+    @Test
+    public void testSortString2() {
+        final RadixHuskySort<String> sorter = new RadixHuskySort<>(HuskyCoderFactory.asciiCoder, 8);
+        final int N = 1000;
+        helper.init(N);
+        final String[] xs = helper.random(String.class, r -> r.nextLong() + "");
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+    }
+
+    @Test
+    public void testSortString3() {
+        final String[] xs = {"刘持平", "洪文胜", "樊辉辉", "苏会敏", "高民政", "曹玉德", "袁继鹏", "舒冬梅", "杨腊香", "许凤山", "王广风", "黄锡鸿", "罗庆富", "顾芳芳", "宋雪光", "王诗卉"};
+        final RadixHuskySort<String> sorter = new RadixHuskySort<>(HuskyCoderFactory.chineseEncoderCollator, 16);
+        sorter.sort(xs);
+        final String[] sorted = {"曹玉德", "樊辉辉", "高民政", "顾芳芳", "洪文胜", "黄锡鸿", "刘持平", "罗庆富", "舒冬梅", "宋雪光", "苏会敏", "王广风", "王诗卉", "许凤山", "杨腊香", "袁继鹏"};
+        assertArrayEquals(sorted, xs);
+    }
+
+    @Test
+    public void testSortLong() {
+        final Random random = new Random(0L);
+        final Long[] xs = new Long[10000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextLong();
+        final Long[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new RadixHuskySort<>(HuskyCoderFactory.longCoder).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testRadixSort() {
+        final long[] longs = {3L, -1L, Long.MAX_VALUE, 0L, Long.MIN_VALUE, 3L};
+        final int[] index = RadixHuskySort.radixSort(longs, 11);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, 3L, 3L, Long.MAX_VALUE}, longs);
+        // NOTE: the sort is stable.
+        assertArrayEquals(new int[]{4, 1, 3, 0, 5, 2}, index);
+    }
+
+    @Test
+    public void testRadixSortConstantDigits() {
+        // NOTE: only the lowest eight bits differ.
+        final long[] longs = {0x7000000000000003L, 0x7000000000000001L, 0x7000000000000002L};
+        final int[] index = RadixHuskySort.radixSort(longs, 8);
+        assertArrayEquals(new long[]{0x7000000000000001L, 0x7000000000000002L, 0x7000000000000003L}, longs);
+        assertArrayEquals(new int[]{1, 2, 0}, index);
+    }
+
+    @Test(expected = SortException.class)
+    public void testBadDigits() {
+        new RadixHuskySort<>(HuskyCoderFactory.asciiCoder, 17);
+    }
+}
@@ -0,0 +1,141 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import edu.neu.coe.huskySort.sort.ComparableSortHelper;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoder;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory;
+import edu.neu.coe.huskySort.sort.huskySortUtils.HuskyWorkspace;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class StableHuskySortTest {
+
+    private final ComparableSortHelper<String> helper = new ComparableSortHelper<>("dummy helper");
+
+    @Test
+    public void testSortString1() {
+        final String[] xs = {"Hello", "Goodbye", "Ciao", "Willkommen"};
+        final StableHuskySort<String> sorter = new StableHuskySort<>(HuskyCoderFactory.unicodeCoder);
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+    }
+
+    @Test
+    public void testSortString2() {
+        final StableHuskySort<String> sorter = new StableHuskySort<>(HuskyCoderFactory.asciiCoder);
+        final int N = 1000;
+        helper.init(N);
+        final String[] xs = helper.random(String.class, r -> r.nextLong() + "");
+        final String[] expected = Arrays.copyOf(xs, N);
+        Arrays.sort(expected);
+        sorter.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortString3() {
+        final String[] xs = {"刘持平", "洪文胜", "樊辉辉", "苏会敏", "高民政", "曹玉德", "袁继鹏", "舒冬梅", "杨腊香", "许凤山", "王广风", "黄锡鸿", "罗庆富", "顾芳芳", "宋雪光", "王诗卉"};
+        final StableHuskySort<String> sorter = new StableHuskySort<>(HuskyCoderFactory.chineseEncoderCollator);
+        sorter.sort(xs);
+        final String[] sorted = {"曹玉德", "樊辉辉", "高民政", "顾芳芳", "洪文胜", "黄锡鸿", "刘持平", "罗庆富", "舒冬梅", "宋雪光", "苏会敏", "王广风", "王诗卉", "许凤山", "杨腊香", "袁继鹏"};
+        assertArrayEquals(sorted, xs);
+    }
+
+    @Test
+    public void testSortWithWorkspace() {
+        final HuskyWorkspace workspace = new HuskyWorkspace();
+        final StableHuskySort<String> sorter = new StableHuskySort<>(HuskyCoderFactory.asciiCoder, null, workspace);
+        final Random random = new Random(0L);
+        final String[] xs = new String[1000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextLong() + "";
+        sorter.sort(xs);
+        assertTrue("sorted", helper.sorted(xs));
+        final int capacity = workspace.capacity();
+        assertTrue(capacity >= 3 * xs.length);
+        // NOTE: a smaller array is sorted within the existing workspace.
+        final String[] ys = Arrays.copyOf(xs, 500);
+        Collections.shuffle(Arrays.asList(ys), random);
+        sorter.sort(ys);
+        assertTrue("sorted", helper.sorted(ys));
+        assertEquals(capacity, workspace.capacity());
+    }
+
+    @Test
+    public void testStabilityPerfectCoding() {
+        final Record[] xs = randomRecords(new Random(0L), 10000, 2);
+        final Record[] expected = Arrays.copyOf(xs, xs.length);
+        // NOTE: the System sort of objects is stable.
+        Arrays.sort(expected);
+        new StableHuskySort<>(Record.coder).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testStabilityImperfectCoding() {
+        // NOTE: the keys are longer than the coder can encode, so the mop-up pass is required.
+        final Record[] xs = randomRecords(new Random(0L), 10000, 12);
+        final Record[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new StableHuskySort<>(Record.coder).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testMultiKey() {
+        final Record[] xs = randomRecords(new Random(1L), 1000, 12);
+        // NOTE: sort by the secondary key (id, descending) first and then by the primary key.
+        new StableHuskySort<>(x -> -x.id, Comparator.comparingInt((Record x) -> x.id).reversed()).sort(xs);
+        new StableHuskySort<>(Record.coder).sort(xs);
+        for (int i = 1; i < xs.length; i++) {
+            final int cf = xs[i - 1].key.compareTo(xs[i].key);
+            assertTrue(cf < 0 || cf == 0 && xs[i - 1].id > xs[i].id);
+        }
+    }
+
+    @Test
+    public void testMergeSort() {
+        final Integer[] xs = {3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, 8, 9, 7, 9, 3, 2, 3, 8, 4};
+        final long[] ls = new long[xs.length];
+        for (int i = 0; i < xs.length; i++) ls[i] = xs[i];
+        final Integer[] xsAux = Arrays.copyOf(xs, xs.length);
+        final long[] lsAux = Arrays.copyOf(ls, ls.length);
+        StableHuskySort.mergeSort(xsAux, lsAux, xs, ls, 0, xs.length);
+        assertArrayEquals(new Integer[]{1, 1, 2, 2, 3, 3, 3, 3, 4, 4, 5, 5, 5, 6, 7, 8, 8, 9, 9, 9}, xs);
+        assertArrayEquals(new long[]{1, 1, 2, 2, 3, 3, 3, 3, 4, 4, 5, 5, 5, 6, 7, 8, 8, 9, 9, 9}, ls);
+    }
+
+    private static Record[] randomRecords(final Random random, final int n, final int keyLength) {
+        final Record[] result = new Record[n];
+        for (int i = 0; i < n; i++) {
+            final StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < keyLength - 1; j++) sb.append('a');
+            sb.append((char) ('a' + random.nextInt(26)));
+            result[i] = new Record(sb.toString(), i);
+        }
+        return result;
+    }
+
+    /**
+     * A record which is ordered only by its key.
+     */
+    private static class Record implements Comparable<Record> {
+        Record(final String key, final int id) {
+            this.key = key;
+            this.id = id;
+        }
+
+        public int compareTo(final Record o) {
+            return key.compareTo(o.key);
+        }
+
+        static final HuskyCoder<Record> coder = x -> HuskyCoderFactory.asciiCoder.huskyEncode(x.key);
+
+        final String key;
+        final int id;
+    }
+}
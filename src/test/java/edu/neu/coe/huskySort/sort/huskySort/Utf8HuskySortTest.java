@@ -0,0 +1,79 @@
+package edu.neu.coe.huskySort.sort.huskySort;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class Utf8HuskySortTest {
+
+    @Test
+    public void testSortByteArrays() {
+        final String[] words = randomWords(10000, "abcé中文", 0L);
+        final byte[][] xs = new byte[words.length][];
+        for (int i = 0; i < words.length; i++) xs[i] = words[i].getBytes(StandardCharsets.UTF_8);
+        Utf8HuskySort.sort(xs);
+        final String[] sorted = new String[xs.length];
+        for (int i = 0; i < xs.length; i++) sorted[i] = new String(xs[i], StandardCharsets.UTF_8);
+        Arrays.sort(words);
+        assertArrayEquals(words, sorted);
+    }
+
+    @Test
+    public void testSortSlices() {
+        checkSortSlices(randomWords(100000, "abcé中文", 1L));
+    }
+
+    @Test
+    public void testSortSlicesLongPrefixes() {
+        // NOTE: many words share prefixes longer than eight bytes, so that runs are re-encoded (several times).
+        final String[] words = randomWords(20000, "ab", 2L);
+        for (int i = 0; i < words.length; i++) words[i] = "common-prefix-" + (i % 3 == 0 ? "and-some-more-" : "") + words[i];
+        checkSortSlices(words);
+    }
+
+    @Test
+    public void testSortSlicesZeros() {
+        checkSortSlices(randomWords(1000, "\u0000a", 3L));
+    }
+
+    @Test
+    public void testSortSlicesSmall() {
+        checkSortSlices(new String[]{"Hello", "Goodbye", "Ciao", "Willkommen", "", "Ciao"});
+    }
+
+    private static void checkSortSlices(final String[] words) {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final int[] offsets = new int[words.length];
+        final int[] lengths = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            final byte[] bytes = words[i].getBytes(StandardCharsets.UTF_8);
+            offsets[i] = stream.size();
+            lengths[i] = bytes.length;
+            stream.writeBytes(bytes);
+        }
+        final byte[] buffer = stream.toByteArray();
+        Utf8HuskySort.sort(buffer, offsets, lengths);
+        final String[] sorted = new String[words.length];
+        for (int i = 0; i < words.length; i++) sorted[i] = new String(buffer, offsets[i], lengths[i], StandardCharsets.UTF_8);
+        final String[] expected = Arrays.copyOf(words, words.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorted);
+    }
+
+    private static String[] randomWords(final int n, final String alphabet, final long seed) {
+        final Random random = new Random(seed);
+        final String[] result = new String[n];
+        for (int i = 0; i < n; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            result[i] = sb.toString();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySort.PureHuskySort;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveHuskyCoderTest {
+
+    @Test
+    public void testCreateLowerCase() {
+        final String[] xs = randomStrings(10000, "abcdefghijklmnopqrstuvwxyz", 0L);
+        final AdaptiveHuskyCoder coder = AdaptiveHuskyCoder.create(xs);
+        final HuskySequenceCoder<String> chosen = coder.getCoder();
+        assertTrue(chosen instanceof SequenceEncoder_Range);
+        assertEquals(5, ((SequenceEncoder_Range) chosen).bitWidth());
+        assertEquals(12, ((SequenceEncoder_Range) chosen).maxLength());
+        assertTrue(coder.monotone());
+        assertTrue(coder.report().startsWith("chose Range[a-z] from a sample of 1000"));
+        assertEquals("Adaptive(Range[a-z])", coder.name());
+        checkSort(xs, coder);
+    }
+
+    @Test
+    public void testCreateChinese() {
+        final String[] xs = randomStrings(10000, "刘持平洪文胜樊辉", 1L);
+        final AdaptiveHuskyCoder coder = AdaptiveHuskyCoder.create(xs);
+        // NOTE: neither the English nor the ASCII coder is a candidate.
+        assertFalse(coder.report().contains("ASCII"));
+        assertFalse(coder.report().contains("English"));
+        checkSort(xs, coder);
+    }
+
+    @Test
+    public void testCreateAsciiUnsampledCharacters() {
+        final AdaptiveHuskyCoder coder = AdaptiveHuskyCoder.create(randomStrings(10000, "@ABCxyz", 3L));
+        // NOTE: neither the English nor the ASCII coder is a candidate, even though the sample is all ASCII.
+        assertFalse(coder.report().contains("ASCII"));
+        assertFalse(coder.report().contains("English"));
+        // NOTE: characters which were not sampled must nevertheless be sorted correctly.
+        checkSort(randomStrings(10000, "@ABCxyzéi", 4L), coder);
+    }
+
+    @Test
+    public void testCreateEmpty() {
+        final AdaptiveHuskyCoder coder = AdaptiveHuskyCoder.create(new String[0]);
+        assertSame(HuskyCoderFactory.unicodeCoder, coder.getCoder());
+    }
+
+    @Test
+    public void testSample() {
+        final String[] xs = {"a", "b"};
+        assertSame(xs, AdaptiveHuskyCoder.sample(xs, 10, new Random(0L)));
+        assertEquals(1, AdaptiveHuskyCoder.sample(xs, 1, new Random(0L)).length);
+    }
+
+    @Test
+    public void testRangeCoder() {
+        final SequenceEncoder_Range coder = new SequenceEncoder_Range('a', 'z');
+        assertEquals(5, coder.bitWidth());
+        assertTrue(coder.monotone());
+        assertTrue(coder.huskyEncode("a") < coder.huskyEncode("aa"));
+        assertTrue(coder.huskyEncode("abcdefghijkl") < coder.huskyEncode("abcdefghijkm"));
+        assertEquals(coder.huskyEncode("abcdefghijkl"), coder.huskyEncode("abcdefghijklm"));
+        // NOTE: characters out of range saturate the rest of the code.
+        assertTrue(coder.huskyEncode("") < coder.huskyEncode("Az"));
+        assertTrue(coder.huskyEncode("Az") < coder.huskyEncode("a"));
+        assertTrue(coder.huskyEncode("zzzzz") < coder.huskyEncode("éa"));
+        assertEquals(coder.huskyEncode("éa"), coder.huskyEncode("éz"));
+        assertTrue(coder.huskyEncode(new String[]{"abc", "z"}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"abc", "Z"}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"abcdefghijklm"}).perfect);
+    }
+
+    @Test
+    public void testRangeCoderMonotone() {
+        final SequenceEncoder_Range coder = new SequenceEncoder_Range('b', 'd');
+        final String[] xs = randomStrings(2000, "abcde", 2L);
+        Arrays.sort(xs);
+        for (int i = 1; i < xs.length; i++)
+            assertTrue(xs[i], coder.huskyEncode(xs[i - 1]) <= coder.huskyEncode(xs[i]));
+    }
+
+    @Test
+    public void testRangeCoderBitWidth() {
+        assertEquals(1, SequenceEncoder_Range.bitWidth('a', 'a'));
+        assertEquals(2, SequenceEncoder_Range.bitWidth('0', '2'));
+        assertEquals(17, SequenceEncoder_Range.bitWidth(Character.MIN_VALUE, Character.MAX_VALUE));
+    }
+
+    @Test(expected = SortException.class)
+    public void testRangeCoderBad() {
+        new SequenceEncoder_Range('z', 'a');
+    }
+
+    private static void checkSort(final String[] xs, final HuskyCoder<String> coder) {
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new PureHuskySort<>(coder, false, false).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    private static String[] randomStrings(final int n, final String alphabet, final long seed) {
+        final Random random = new Random(seed);
+        final String[] result = new String[n];
+        for (int i = 0; i < n; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = 1 + random.nextInt(15);
+            for (int j = 0; j < length; j++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            result[i] = sb.toString();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HuskyCoderChinesePinyinTest {
+
+    @Test
+    public void testEncodeHanyu() {
+        final String[] names = {"刘持平", "洪文胜", "樊辉辉", "苏会敏", "高民政", "曹玉德", "袁继鹏", "舒冬梅", "杨腊香", "许凤山", "王广风", "黄锡鸿", "罗庆富", "顾芳芳", "宋雪光", "王诗卉", "吕", "女", "欧阳"};
+        for (final String name : names)
+            assertEquals(name, HuskyCoderChinesePinyin.encodeHanyuParsed(name), HuskyCoderChinesePinyin.encodeHanyu(name));
+    }
+
+    @Test
+    public void testEncodeHanyuEmpty() {
+        assertEquals(0L, HuskyCoderChinesePinyin.encodeHanyu(""));
+    }
+
+    @Test(expected = SortException.class)
+    public void testEncodeHanyuFallback() {
+        // NOTE: a character which has no pinyin is not in the table and so the String is parsed (and that fails).
+        HuskyCoderChinesePinyin.encodeHanyu("李A");
+    }
+
+    @Test
+    public void testEncodeHanyuCorpus() throws IOException {
+        int count = 0;
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(getClass().getResourceAsStream("/zho-simp-tw_web_2014_10K-words.txt")), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String word = line.split("\t")[1];
+                final long expected;
+                try {
+                    expected = HuskyCoderChinesePinyin.encodeHanyuParsed(word);
+                } catch (final SortException e) {
+                    continue;
+                }
+                assertEquals(word, expected, HuskyCoderChinesePinyin.encodeHanyu(word));
+                count++;
+            }
+        }
+        assertTrue(count > 10000);
+    }
+}
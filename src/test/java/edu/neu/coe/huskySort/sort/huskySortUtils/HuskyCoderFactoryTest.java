@@ -9,11 +9,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.Collator;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import static edu.neu.coe.huskySort.sort.huskySortUtils.HuskyCoderFactory.asciiToLong;
@@ -83,6 +85,17 @@ public class HuskyCoderFactoryTest {
         assertEquals(0x6180A3410DD00L, coder.huskyEncode("高民政"));
     }
 
+    @Test
+    public void testChineseCoderShortKeys() {
+        // NOTE: the collation keys of "\u00A0" and "\u00AD" are shorter than those of "  " and "-", which precede them.
+        final HuskySequenceCoder<String> coder = HuskyCoderFactory.chineseEncoderCollator;
+        final Collator collator = coder.getCollator();
+        final String[] xs = {"\u00A0", "  ", "\u00AD", "-", "", "a", "ab"};
+        Arrays.sort(xs, collator);
+        for (int i = 1; i < xs.length; i++)
+            assertTrue(xs[i], coder.huskyEncode(xs[i - 1]) <= coder.huskyEncode(xs[i]));
+    }
+
     @Test
     public void testUTF8ToLong() {
         final String[] words = {"中文", "太长的中文", "asdfghjkl", "¥", "c", "a𐍈", "𝒑𝒒"};
@@ -368,6 +381,42 @@ public class HuskyCoderFactoryTest {
         assertEquals(0xB2DA6DD6DCA3A2DL, l刘持平);
     }
 
+    @Test
+    public void testHuskyEncodeParallel1() {
+        final int n = 100000;
+        final String[] xs = new String[n];
+        final Random random = new Random(0L);
+        for (int i = 0; i < n; i++) xs[i] = Long.toString(random.nextLong() & 0xFFFFFFL);
+        final Coding sequential = HuskyCoderFactory.asciiCoder.huskyEncode(xs);
+        final Coding parallel = HuskyCoderFactory.asciiCoder.huskyEncodeParallel(xs);
+        assertArrayEquals(sequential.longs, parallel.longs);
+        assertTrue(parallel.perfect);
+        // NOTE: a single long string in the last chunk makes the whole coding imperfect.
+        xs[n - 1] = "12345678901234567890";
+        final Coding imperfect = HuskyCoderFactory.asciiCoder.huskyEncodeParallel(xs);
+        assertFalse(imperfect.perfect);
+        assertEquals(asciiToLong(xs[n - 1]), imperfect.longs[n - 1]);
+    }
+
+    @Test
+    public void testHuskyEncodeParallel2() {
+        final int n = 50000;
+        final Long[] xs = new Long[n];
+        for (int i = 0; i < n; i++) xs[i] = (long) (n - i);
+        final Coding coding = HuskyCoderFactory.longCoder.huskyEncodeParallel(xs);
+        assertTrue(coding.perfect);
+        for (int i = 0; i < n; i++) assertEquals(n - i, coding.longs[i]);
+    }
+
+    @Test
+    public void testHuskyEncodeParallel3() {
+        final String[] xs = {"刘持平", "洪文胜", "樊辉辉"};
+        final Coding sequential = HuskyCoderFactory.chineseEncoderCollator.huskyEncode(xs);
+        final Coding parallel = HuskyCoderFactory.chineseEncoderCollator.huskyEncodeParallel(xs);
+        assertArrayEquals(sequential.longs, parallel.longs);
+        assertEquals(sequential.perfect, parallel.perfect);
+    }
+
     public static <X> void compareEncodings(final X x1, final X x2, final Function<X, Long> encoder, final Comparator<X> comparator) {
         assertEquals(comparator.compare(x1, x2), Long.compare(encoder.apply(x1), encoder.apply(x2)));
     }
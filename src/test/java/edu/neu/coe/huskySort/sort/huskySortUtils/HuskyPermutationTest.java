@@ -0,0 +1,59 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HuskyPermutationTest {
+
+    @Test
+    public void testPack() {
+        final long[] longs = {5L, 3L, 9L, 1L};
+        assertArrayEquals(new long[]{3L, 0L, 9L, 1L}, HuskyPermutation.pack(longs, 1, 3));
+    }
+
+    @Test
+    public void testPermute() {
+        final String[] xs = {"c", "a", "d", "b"};
+        final long[] longs = new long[4];
+        // NOTE: position i should receive the element originally at index.
+        final long[] pairs = {1L, 1L, 2L, 3L, 3L, 0L, 4L, 2L};
+        HuskyPermutation.permute(xs, longs, pairs, 0);
+        assertArrayEquals(new String[]{"a", "b", "c", "d"}, xs);
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L}, longs);
+    }
+
+    @Test
+    public void testSort1() {
+        final String[] xs = {"Hello", "Goodbye", "Ciao", "Willkommen"};
+        final Coding coding = HuskyCoderFactory.asciiCoder.huskyEncode(xs);
+        HuskyPermutation.sort(xs, coding.longs, 0, xs.length);
+        assertArrayEquals(new String[]{"Ciao", "Goodbye", "Hello", "Willkommen"}, xs);
+    }
+
+    @Test
+    public void testSort2() {
+        final int n = 100000;
+        final Random random = new Random(0L);
+        final Long[] xs = new Long[n];
+        // NOTE: plenty of duplicates.
+        for (int i = 0; i < n; i++) xs[i] = (long) random.nextInt(1000);
+        final Coding coding = HuskyCoderFactory.longCoder.huskyEncode(xs);
+        final Long[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        HuskyPermutation.sort(xs, coding.longs, 0, n);
+        assertArrayEquals(expected, xs);
+        for (int i = 0; i < n; i++) assertEquals(xs[i].longValue(), coding.longs[i]);
+    }
+
+    @Test
+    public void testSortRange() {
+        final Integer[] xs = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        final Coding coding = HuskyCoderFactory.integerCoder.huskyEncode(xs);
+        HuskyPermutation.sort(xs, coding.longs, 2, 8);
+        assertArrayEquals(new Integer[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, xs);
+    }
+}
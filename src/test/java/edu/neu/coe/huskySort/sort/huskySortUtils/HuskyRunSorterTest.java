@@ -0,0 +1,134 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HuskyRunSorterTest {
+
+    @Test
+    public void testEndOfRun() {
+        final long[] longs = {1L, 1L, 1L, 2L, 3L, 3L};
+        assertEquals(3, HuskyRunSorter.endOfRun(longs, 0, 6));
+        assertEquals(4, HuskyRunSorter.endOfRun(longs, 3, 6));
+        assertEquals(6, HuskyRunSorter.endOfRun(longs, 4, 6));
+    }
+
+    @Test
+    public void testSortMonotone() {
+        final String[] xs = {"abcdefgh", "abcdefga", "b", "cdefghijk", "cdefghija"};
+        final Coding coding = HuskyCoderFactory.unicodeCoder.huskyEncode(xs);
+        assertTrue(HuskyCoderFactory.unicodeCoder.monotone());
+        assertTrue(HuskyRunSorter.sort(xs, coding.longs, null, true));
+        assertArrayEquals(new String[]{"abcdefga", "abcdefgh", "b", "cdefghija", "cdefghijk"}, xs);
+    }
+
+    @Test
+    public void testSortNotMonotone() {
+        // NOTE: the ASCII coder masks off the high bit of 'é' so that "é" is encoded before "z".
+        final String[] xs = {"é", "z"};
+        final long[] longs = {HuskyCoderFactory.asciiCoder.huskyEncode(xs[0]), HuskyCoderFactory.asciiCoder.huskyEncode(xs[1])};
+        assertTrue(longs[0] < longs[1]);
+        assertFalse(HuskyCoderFactory.asciiCoder.monotone());
+        assertFalse(HuskyRunSorter.sort(xs, longs, null, false));
+        assertArrayEquals(new String[]{"z", "é"}, xs);
+    }
+
+    @Test
+    public void testSortLong() {
+        final int n = 10000;
+        final Random random = new Random(0L);
+        final String[] xs = new String[n];
+        for (int i = 0; i < n; i++) xs[i] = "prefix" + random.nextInt(100000);
+        final Coding coding = HuskyCoderFactory.unicodeCoder.huskyEncode(xs);
+        HuskyPermutation.sort(xs, coding.longs, 0, n);
+        final String[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        assertTrue(HuskyRunSorter.sort(xs, coding.longs, null, false));
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortMultiLevel() {
+        final int n = 10000;
+        final Random random = new Random(0L);
+        final String[] xs = new String[n];
+        for (int i = 0; i < n; i++)
+            xs[i] = "https://www.example.com/path/" + random.nextInt(1000) + (random.nextBoolean() ? "" : "/index.html");
+        final SequenceEncoder_MultiLevel coder = HuskyCoderFactory.unicodeMultiLevelCoder;
+        final Coding coding = coder.huskyEncode(xs);
+        assertFalse(coding.perfect);
+        HuskyPermutation.sort(xs, coding.longs, 0, n);
+        final String[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        HuskyRunSorter.sort(xs, coding.longs, coder);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testMultiLevelEncode() {
+        final SequenceEncoder_MultiLevel coder = HuskyCoderFactory.unicodeMultiLevelCoder;
+        assertEquals(coder.huskyEncode("abcd", 0), coder.huskyEncode("abcdefgh"));
+        assertEquals(coder.huskyEncode("efgh", 0), coder.huskyEncode("abcdefgh", 1));
+        assertTrue(coder.huskyEncode("abcdefg", 1) < coder.huskyEncode("abcdefgh", 1));
+        assertTrue(coder.huskyEncode("abcd\uffff", 1) > coder.huskyEncode("abcdz", 1));
+        assertTrue(coder.exhausted("abcdefgh", 1));
+        assertFalse(coder.exhausted("abcdefghi", 1));
+    }
+
+    @Test
+    public void testInsertionSortMonotone() {
+        final int n = 10000;
+        final Random random = new Random(0L);
+        final String[] xs = new String[n];
+        for (int i = 0; i < n; i++) xs[i] = "prefix" + random.nextInt(100000);
+        final Coding coding = HuskyCoderFactory.unicodeCoder.huskyEncode(xs);
+        HuskyPermutation.sort(xs, coding.longs, 0, n);
+        final String[] expected = Arrays.copyOf(xs, n);
+        Arrays.sort(expected);
+        final long[] longs = Arrays.copyOf(coding.longs, n);
+        HuskyRunSorter.insertionSort(xs, coding.longs, null, true);
+        assertArrayEquals(expected, xs);
+        assertArrayEquals(longs, coding.longs);
+    }
+
+    @Test
+    public void testInsertionSortComparisons() {
+        // NOTE: the codes are all different and so no comparisons should be required.
+        final String[] xs = {"a", "b", "c", "d"};
+        final Coding coding = HuskyCoderFactory.unicodeCoder.huskyEncode(xs);
+        final int[] count = new int[1];
+        HuskyRunSorter.insertionSort(xs, coding.longs, (x, y) -> {
+            count[0]++;
+            return x.compareTo(y);
+        }, true);
+        assertEquals(0, count[0]);
+    }
+
+    @Test
+    public void testInsertionSortNotMonotone() {
+        final String[] xs = {"a", "é", "b", "z"};
+        final long[] longs = new long[xs.length];
+        for (int i = 0; i < xs.length; i++) longs[i] = HuskyCoderFactory.asciiCoder.huskyEncode(xs[i]);
+        Arrays.sort(xs, (x, y) -> Long.compare(HuskyCoderFactory.asciiCoder.huskyEncode(x), HuskyCoderFactory.asciiCoder.huskyEncode(y)));
+        Arrays.sort(longs);
+        HuskyRunSorter.insertionSort(xs, longs, null, false);
+        assertArrayEquals(new String[]{"a", "b", "z", "é"}, xs);
+        assertEquals(HuskyCoderFactory.asciiCoder.huskyEncode("é"), longs[3]);
+    }
+
+    @Test
+    public void testInsertionSortStable() {
+        final String[] xs = {new String("x"), "a", new String("x"), "b"};
+        final String first = xs[0];
+        final String second = xs[2];
+        final long[] longs = {0L, 0L, 0L, 0L};
+        HuskyRunSorter.insertionSort(xs, longs, null, true);
+        assertArrayEquals(new String[]{"a", "b", "x", "x"}, xs);
+        assertSame(first, xs[2]);
+        assertSame(second, xs[3]);
+    }
+}
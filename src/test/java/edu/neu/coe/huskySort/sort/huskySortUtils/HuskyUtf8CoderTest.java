@@ -0,0 +1,77 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HuskyUtf8CoderTest {
+
+    @Test
+    public void testHuskyEncode() {
+        assertEquals(Long.MIN_VALUE, HuskyUtf8Coder.huskyEncode(new byte[0]));
+        assertEquals(0x6100000000000000L ^ Long.MIN_VALUE, HuskyUtf8Coder.huskyEncode(bytes("a")));
+        assertEquals(0x6162636465666768L ^ Long.MIN_VALUE, HuskyUtf8Coder.huskyEncode(bytes("abcdefghij")));
+        assertEquals(0xFFFFFFFFFFFFFFFFL ^ Long.MIN_VALUE, HuskyUtf8Coder.huskyEncode(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1}));
+    }
+
+    @Test
+    public void testHuskyEncodeSlice() {
+        final byte[] buffer = bytes("xxabcdefghijxx");
+        assertEquals(HuskyUtf8Coder.huskyEncode(bytes("abcdefgh")), HuskyUtf8Coder.huskyEncode(buffer, 2, 10));
+        assertEquals(HuskyUtf8Coder.huskyEncode(bytes("abc")), HuskyUtf8Coder.huskyEncode(buffer, 2, 3));
+    }
+
+    @Test
+    public void testHuskyEncodeArray() {
+        final byte[][] xs = {bytes("b"), bytes("a")};
+        final long[] longs = new long[3];
+        HuskyUtf8Coder.huskyEncode(xs, longs);
+        assertEquals(HuskyUtf8Coder.huskyEncode(xs[0]), longs[0]);
+        assertEquals(HuskyUtf8Coder.huskyEncode(xs[1]), longs[1]);
+        assertEquals(0L, longs[2]);
+    }
+
+    @Test
+    public void testMonotone() {
+        final Random random = new Random(0L);
+        final String alphabet = "aZé中\u0000";
+        for (int i = 0; i < 10000; i++) {
+            final byte[] x = bytes(randomString(random, alphabet));
+            final byte[] y = bytes(randomString(random, alphabet));
+            final long cx = HuskyUtf8Coder.huskyEncode(x);
+            final long cy = HuskyUtf8Coder.huskyEncode(y);
+            if (Arrays.compareUnsigned(x, y) < 0) assertTrue(cx <= cy);
+            assertEquals(Integer.signum(Arrays.compareUnsigned(x, y)), Integer.signum(HuskyUtf8Coder.compare(concat(x, y), 0, x.length, x.length, y.length, 0)));
+        }
+    }
+
+    @Test
+    public void testCompare() {
+        final byte[] buffer = {'a', 'a', 0, 'a', 'b'};
+        assertTrue(HuskyUtf8Coder.compare(buffer, 0, 1, 1, 2, 8) < 0);
+        assertTrue(HuskyUtf8Coder.compare(buffer, 1, 2, 0, 1, 8) > 0);
+        assertEquals(0, HuskyUtf8Coder.compare(buffer, 0, 1, 1, 1, 0));
+        assertTrue(HuskyUtf8Coder.compare(buffer, 3, 2, 0, 2, 1) > 0);
+    }
+
+    private static String randomString(final Random random, final String alphabet) {
+        final StringBuilder sb = new StringBuilder();
+        final int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        return sb.toString();
+    }
+
+    private static byte[] concat(final byte[] x, final byte[] y) {
+        final byte[] result = Arrays.copyOf(x, x.length + y.length);
+        System.arraycopy(y, 0, result, x.length, y.length);
+        return result;
+    }
+
+    private static byte[] bytes(final String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,52 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HuskyWorkspaceTest {
+
+    @Test
+    public void testGetLongs() {
+        final HuskyWorkspace workspace = new HuskyWorkspace();
+        final long[] longs = workspace.getLongs(100);
+        assertTrue(longs.length >= 100);
+        assertSame(longs, workspace.getLongs(50));
+        assertSame(longs, workspace.getLongs(100));
+        assertNotSame(longs, workspace.getLongsAux(100));
+    }
+
+    @Test
+    public void testGrow() {
+        final HuskyWorkspace workspace = new HuskyWorkspace();
+        final long[] longs = workspace.getLongs(100);
+        final long[] longs2 = workspace.getLongs(101);
+        assertNotSame(longs, longs2);
+        assertTrue(longs2.length >= 150);
+    }
+
+    @Test
+    public void testXsAux() {
+        final HuskyWorkspace workspace = new HuskyWorkspace();
+        final String[] xs = {"a", "b", "c"};
+        final Comparable<?>[] aux = workspace.getXsAux(3);
+        System.arraycopy(xs, 0, aux, 0, 3);
+        workspace.releaseXsAux(3);
+        for (final Object x : aux) assertNull(x);
+    }
+
+    @Test
+    public void testForCurrentThread() {
+        assertSame(HuskyWorkspace.forCurrentThread(), HuskyWorkspace.forCurrentThread());
+    }
+
+    @Test
+    public void testHuskyEncodeIntoWorkspace() {
+        final String[] xs = {"Hello", "Goodbye"};
+        final long[] longs = new HuskyWorkspace().getLongs(10);
+        final Coding coding = HuskyCoderFactory.asciiCoder.huskyEncode(xs, longs);
+        assertSame(longs, coding.longs);
+        assertEquals(HuskyCoderFactory.asciiCoder.huskyEncode("Goodbye"), longs[1]);
+        assertTrue(coding.perfect);
+    }
+}
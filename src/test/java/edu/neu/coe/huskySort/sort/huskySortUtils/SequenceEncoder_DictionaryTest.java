@@ -0,0 +1,84 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.sort.SortException;
+import edu.neu.coe.huskySort.sort.huskySort.PureHuskySort;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SequenceEncoder_DictionaryTest {
+
+    @Test
+    public void testMaxLength() {
+        assertEquals(62, SequenceEncoder_Dictionary.maxLength(2));
+        assertEquals(13, SequenceEncoder_Dictionary.maxLength(27));
+        assertEquals(12, SequenceEncoder_Dictionary.maxLength(33));
+        assertEquals(3, SequenceEncoder_Dictionary.maxLength(65537));
+    }
+
+    @Test
+    public void testCreate() {
+        final SequenceEncoder_Dictionary coder = SequenceEncoder_Dictionary.create(new String[]{"the", "quick", "brown", "fox", "jumps", "over", "a", "lazy", "dog"});
+        assertEquals("Dictionary[26]", coder.name());
+        assertEquals(13, coder.maxLength());
+        assertTrue(coder.monotone());
+        assertTrue(coder.huskyEncode("abcdefghijklm") < coder.huskyEncode("abcdefghijkln"));
+        assertEquals(coder.huskyEncode("abcdefghijklm"), coder.huskyEncode("abcdefghijklmn"));
+        assertTrue(coder.huskyEncode(new String[]{"zzzzzzzzzzzzz", "a", ""}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"abcdefghijklmn"}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"A"}).perfect);
+    }
+
+    @Test
+    public void testMonotone() {
+        // NOTE: the alphabet does not include every character which is encoded.
+        final SequenceEncoder_Dictionary coder = new SequenceEncoder_Dictionary(new char[]{'b', 'd', 'f'});
+        final Random random = new Random(0L);
+        final String[] xs = new String[2000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) sb.append("abcdefg".charAt(random.nextInt(7)));
+            xs[i] = sb.toString();
+        }
+        Arrays.sort(xs);
+        for (int i = 1; i < xs.length; i++)
+            assertTrue(xs[i], coder.huskyEncode(xs[i - 1]) <= coder.huskyEncode(xs[i]));
+        assertTrue(coder.huskyEncode("ag") < coder.huskyEncode("b"));
+        assertTrue(coder.huskyEncode("ca") > coder.huskyEncode("bfff"));
+        assertEquals(coder.huskyEncode("g"), coder.huskyEncode("gg"));
+    }
+
+    @Test
+    public void testSort() {
+        final Random random = new Random(1L);
+        final String[] xs = new String[10000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = 1 + random.nextInt(15);
+            for (int j = 0; j < length; j++) sb.append("etaoinshrdlu".charAt(random.nextInt(12)));
+            xs[i] = sb.toString();
+        }
+        final SequenceEncoder_Dictionary coder = SequenceEncoder_Dictionary.create(xs);
+        // NOTE: twelve symbols allow seventeen characters to be encoded.
+        assertEquals(17, coder.maxLength());
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new PureHuskySort<>(coder, false, false).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testEmpty() {
+        final SequenceEncoder_Dictionary coder = SequenceEncoder_Dictionary.create(new String[0]);
+        assertEquals(0L, coder.huskyEncode("abc"));
+    }
+
+    @Test(expected = SortException.class)
+    public void testBadAlphabet() {
+        new SequenceEncoder_Dictionary(new char[]{'b', 'a'});
+    }
+}
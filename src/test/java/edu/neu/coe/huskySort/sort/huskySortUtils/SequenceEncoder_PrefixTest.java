@@ -0,0 +1,103 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import edu.neu.coe.huskySort.sort.huskySort.PureHuskySort;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class SequenceEncoder_PrefixTest {
+
+    @Test
+    public void testLongestCommonPrefix() {
+        assertEquals("", SequenceEncoder_Prefix.longestCommonPrefix(new String[0]));
+        assertEquals("abc", SequenceEncoder_Prefix.longestCommonPrefix(new String[]{"abc"}));
+        assertEquals("ab", SequenceEncoder_Prefix.longestCommonPrefix(new String[]{"abc", "abd", "ab"}));
+        assertEquals("", SequenceEncoder_Prefix.longestCommonPrefix(new String[]{"abc", "xbc"}));
+    }
+
+    @Test
+    public void testAlphabets() {
+        final char[][] alphabets = SequenceEncoder_Prefix.alphabets(new String[]{"p/ab", "p/ba", "p/a"}, 2);
+        assertEquals(2, alphabets.length);
+        assertArrayEquals(new char[]{'a', 'b'}, alphabets[0]);
+        assertArrayEquals(new char[]{'a', 'b'}, alphabets[1]);
+    }
+
+    @Test
+    public void testCreate() {
+        final String[] xs = urls(10000, 0L);
+        final SequenceEncoder_Prefix coder = SequenceEncoder_Prefix.create(xs);
+        assertEquals("https://www.example.com/", coder.getPrefix());
+        assertTrue(coder.monotone());
+        // NOTE: the unicode coder cannot distinguish any of these Strings.
+        assertEquals(1, distinctCodes(xs, HuskyCoderFactory.unicodeCoder));
+        // NOTE: every suffix is short enough to be distinguished.
+        assertEquals(new HashSet<>(Arrays.asList(xs)).size(), distinctCodes(xs, coder));
+        assertTrue(distinctCodes(xs, SequenceEncoder_Prefix.create(xs, false)) > 100);
+    }
+
+    @Test
+    public void testSort() {
+        for (final boolean compress : new boolean[]{true, false}) {
+            final String[] xs = urls(10000, 1L);
+            final String[] expected = Arrays.copyOf(xs, xs.length);
+            Arrays.sort(expected);
+            new PureHuskySort<>(SequenceEncoder_Prefix.create(xs, compress), false, false).sort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testMonotone() {
+        // NOTE: the coder is created from a sample which does not represent all of the Strings to be encoded.
+        final SequenceEncoder_Prefix coder = SequenceEncoder_Prefix.create(new String[]{"ab/cd", "ab/ce", "ab/d"});
+        final String[] xs = {"", "a", "aa", "ab", "ab/", "ab/a", "ab/c", "ab/cd", "ab/cde", "ab/ce", "ab/cz", "ab/d", "ab/e", "ab0", "b"};
+        for (int i = 1; i < xs.length; i++)
+            assertTrue(xs[i], coder.huskyEncode(xs[i - 1]) <= coder.huskyEncode(xs[i]));
+        final Random random = new Random(2L);
+        final String[] ys = new String[2000];
+        for (int i = 0; i < ys.length; i++) {
+            final StringBuilder sb = new StringBuilder("ab/");
+            final int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) sb.append("bcdef".charAt(random.nextInt(5)));
+            ys[i] = sb.toString();
+        }
+        Arrays.sort(ys);
+        for (int i = 1; i < ys.length; i++)
+            assertTrue(ys[i], coder.huskyEncode(ys[i - 1]) <= coder.huskyEncode(ys[i]));
+        assertEquals(Long.MIN_VALUE, coder.huskyEncode("a"));
+        assertEquals(Long.MAX_VALUE, coder.huskyEncode("b"));
+    }
+
+    @Test
+    public void testPerfect() {
+        final SequenceEncoder_Prefix coder = SequenceEncoder_Prefix.create(new String[]{"ab/cd", "ab/ce", "ab/d"});
+        assertTrue(coder.huskyEncode(new String[]{"ab/cd", "ab/c", "ab/"}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"ab/cd", "ab/cf"}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"ab/cd", "ab/cdd"}).perfect);
+        assertFalse(coder.huskyEncode(new String[]{"ab/cd", "a"}).perfect);
+    }
+
+    private static int distinctCodes(final String[] xs, final HuskyCoder<String> coder) {
+        final Set<Long> codes = new HashSet<>();
+        for (final String x : xs) codes.add(coder.huskyEncode(x));
+        return codes.size();
+    }
+
+    private static String[] urls(final int n, final long seed) {
+        final Random random = new Random(seed);
+        final String[] result = new String[n];
+        for (int i = 0; i < n; i++) {
+            final StringBuilder sb = new StringBuilder("https://www.example.com/");
+            final int length = 1 + random.nextInt(12);
+            for (int j = 0; j < length; j++) sb.append("abcdefghijklmnopqrstuvwxyz/".charAt(random.nextInt(27)));
+            result[i] = sb.toString();
+        }
+        return result;
+    }
+}
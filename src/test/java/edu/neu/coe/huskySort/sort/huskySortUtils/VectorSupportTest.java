@@ -0,0 +1,53 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * NOTE: unless these tests are run with the "vector" profile, they test only the scalar coders.
+ */
+public class VectorSupportTest {
+
+    @Test
+    public void testAsciiCoder() {
+        checkCoder(HuskyCoderFactory.asciiCoder, VectorSupport.asciiCoder());
+    }
+
+    @Test
+    public void testEnglishCoder() {
+        checkCoder(HuskyCoderFactory.englishCoder, VectorSupport.englishCoder());
+    }
+
+    @Test
+    public void testUnicodeCoder() {
+        checkCoder(HuskyCoderFactory.unicodeCoder, VectorSupport.unicodeCoder());
+    }
+
+    @Test
+    public void testIsAvailable() {
+        // NOTE: this property is set by the "vector" profile.
+        if (Boolean.getBoolean("huskysort.vector")) assertTrue(VectorSupport.isAvailable());
+        assertEquals(VectorSupport.isAvailable(), VectorSupport.unicodeCoder() != HuskyCoderFactory.unicodeCoder);
+    }
+
+    private static void checkCoder(final HuskySequenceCoder<String> expected, final HuskySequenceCoder<String> actual) {
+        final Random random = new Random(0L);
+        final String alphabet = "aZ~é中￿";
+        final String[] xs = new String[1000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(14);
+            for (int j = 0; j < length; j++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            xs[i] = sb.toString();
+            assertEquals(xs[i], expected.huskyEncode(xs[i]), actual.huskyEncode(xs[i]));
+        }
+        final Coding coding = actual.huskyEncode(xs);
+        assertArrayEquals(expected.huskyEncode(xs).longs, coding.longs);
+        assertFalse(coding.perfect);
+        assertEquals(expected.monotone(), actual.monotone());
+        for (int length = 0; length < 12; length++) assertEquals(expected.perfectForLength(length), actual.perfectForLength(length));
+    }
+}
@@ -5,11 +5,19 @@ import edu.neu.coe.huskySort.sort.huskySortUtils.UnicodeCharacter;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class CharacterMapTest {
 
@@ -165,5 +173,133 @@ public class CharacterMapTest {
         assertTrue(stringComparator.compare("何欣蔚", "何昕") > 0);
     }
 
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        final String names = "卞燕燕卞艳红王略王卢城何欣蔚何昕";
+        for (int i = 0; i < names.length(); i++) characterMap.get(names.charAt(i));
+        final File file = Files.createTempFile("husky", ".map").toFile();
+        try {
+            characterMap.save(file);
+            final CharacterMap loaded = CharacterMap.load(file, x -> {
+                throw new AssertionError("unexpected character: " + x);
+            });
+            assertEquals(characterMap.getDialect(), loaded.getDialect());
+            assertEquals(characterMap.size(), loaded.size());
+            for (final char x : characterMap.keySet()) {
+                assertEquals(characterMap.get(x).alt(), loaded.get(x).alt());
+                assertEquals(characterMap.get(x).encode(), loaded.get(x).encode());
+            }
+            assertEquals(characterMap.stringComparator.compare("王略", "王卢城"), loaded.stringComparator.compare("王略", "王卢城"));
+            assertEquals(characterMap.stringComparatorPinyin.compare("何欣蔚", "何昕"), loaded.stringComparatorPinyin.compare("何欣蔚", "何昕"));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void testLoadMissing() throws IOException {
+        final File file = Files.createTempFile("husky", ".map").toFile();
+        try {
+            new CharacterMap(ChineseCharacter::new, "Hanyu", '阿').save(file);
+            final CharacterMap loaded = CharacterMap.load(file, ChineseCharacter::new);
+            assertEquals(1, loaded.size());
+            // NOTE: a character which is not in the snapshot is created in the usual way.
+            assertEquals("bian 4", loaded.get('卞').alt());
+            assertEquals(2, loaded.size());
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadNotSnapshot() throws IOException {
+        final File file = Files.createTempFile("husky", ".map").toFile();
+        try {
+            Files.writeString(file.toPath(), "not a snapshot");
+            CharacterMap.load(file, ChineseCharacter::new);
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void testLoadTruncated() throws IOException {
+        final String names = "卞燕燕卞艳红王略";
+        for (int i = 0; i < names.length(); i++) characterMap.get(names.charAt(i));
+        final File file = Files.createTempFile("husky", ".map").toFile();
+        try {
+            characterMap.save(file);
+            final byte[] bytes = Files.readAllBytes(file.toPath());
+            // NOTE: every proper prefix of a snapshot must be rejected with an IOException.
+            for (int length = 0; length < bytes.length; length++) {
+                Files.write(file.toPath(), Arrays.copyOf(bytes, length));
+                try {
+                    CharacterMap.load(file, ChineseCharacter::new);
+                    fail("truncated snapshot of length " + length + " was loaded");
+                } catch (final IOException e) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadCorrupt() throws IOException {
+        final File file = Files.createTempFile("husky", ".map").toFile();
+        try {
+            new CharacterMap(ChineseCharacter::new, "Hanyu", '阿').save(file);
+            final byte[] bytes = Files.readAllBytes(file.toPath());
+            // NOTE: the length of the dialect follows the magic number.
+            ByteBuffer.wrap(bytes).putInt(Integer.BYTES, -1);
+            Files.write(file.toPath(), bytes);
+            CharacterMap.load(file, ChineseCharacter::new);
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void testPopulate() {
+        characterMap.populate('\u4E00', '\u4E02');
+        assertEquals(3, characterMap.size());
+    }
+
+    @Test
+    public void testGetOrdinals() {
+        final String names = "卞燕艳红阿";
+        for (int i = 0; i < names.length(); i++) characterMap.get(names.charAt(i));
+        final int[] ordinals = characterMap.getOrdinals();
+        // NOTE: 燕 and 艳 are both yan4 and so share an ordinal.
+        assertEquals(ordinals['燕'], ordinals['艳']);
+        assertEquals(4, DenseCounts.radix(ordinals) - 1);
+        assertEquals(0, ordinals['x']);
+        for (final char x : characterMap.keySet())
+            for (final char y : characterMap.keySet())
+                assertEquals(Integer.signum(characterMap.get(x).compareTo(characterMap.get(y))), Integer.signum(Integer.compare(ordinals[x], ordinals[y])));
+    }
+
+    @Test
+    public void testGetOrdinalsCached() {
+        characterMap.get('阿');
+        characterMap.get('卞');
+        final int[] ordinals = characterMap.getOrdinals();
+        assertSame(ordinals, characterMap.getOrdinals());
+        // NOTE: a new character invalidates the cached ordinals.
+        characterMap.get('红');
+        final int[] ordinals2 = characterMap.getOrdinals();
+        assertNotSame(ordinals, ordinals2);
+        assertEquals(3, DenseCounts.radix(ordinals2) - 1);
+        // NOTE: so does clearing the map (even if it is then refilled to the same size).
+        characterMap.clear();
+        characterMap.get('燕');
+        characterMap.get('卞');
+        characterMap.get('阿');
+        final int[] ordinals3 = characterMap.getOrdinals();
+        assertEquals(0, ordinals3['红']);
+        assertTrue(ordinals3['燕'] > 0);
+    }
+
     CharacterMap characterMap;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package edu.neu.coe.huskySort.sort.radix;
+
+import edu.neu.coe.huskySort.sort.huskySortUtils.ChineseCharacter;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class DenseCountsTest {
+
+    @Before
+    public void before() {
+        characterMap = new CharacterMap(ChineseCharacter::new);
+        xs = new UnicodeString[]{new UnicodeString(characterMap, "涛"), new UnicodeString(characterMap, "林"), new UnicodeString(characterMap, ""), new UnicodeString(characterMap, "林涛")};
+        final int[] ordinals = characterMap.getOrdinals();
+        counts = new DenseCounts(ordinals, DenseCounts.radix(ordinals));
+    }
+
+    @Test
+    public void testRadix() {
+        assertEquals(3, counts.radix());
+    }
+
+    @Test
+    public void testCountAndCopy() {
+        counts.countCharacters(xs, 0, xs.length, 0);
+        counts.accumulateCounts();
+        final UnicodeString[] aux = new UnicodeString[xs.length];
+        for (final UnicodeString x : xs) counts.copyAndIncrementCount(x, aux, 0);
+        // NOTE: the empty string, then the two strings beginning with lin, then tao.
+        assertEquals(1, counts.end(0));
+        assertEquals(3, counts.end(1));
+        assertEquals(4, counts.end(2));
+        assertSame(xs[2], aux[0]);
+        assertSame(xs[1], aux[1]);
+        assertSame(xs[3], aux[2]);
+        assertSame(xs[0], aux[3]);
+    }
+
+    private CharacterMap characterMap;
+    private UnicodeString[] xs;
+    private DenseCounts counts;
+}
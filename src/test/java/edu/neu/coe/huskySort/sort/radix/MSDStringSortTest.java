@@ -4,13 +4,26 @@ import edu.neu.coe.huskySort.sort.ComparableSortHelper;
 import edu.neu.coe.huskySort.sort.ComparisonSortHelper;
 import edu.neu.coe.huskySort.sort.huskySort.HuskySortBenchmark;
 import edu.neu.coe.huskySort.sort.huskySort.HuskySortBenchmarkHelper;
+import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
 public class MSDStringSortTest {
 
+    @Test
+    public void sortMixedLengths() {
+        final Random random = new Random(0L);
+        final String[] xs = new String[1000];
+        for (int i = 0; i < xs.length; i++) xs[i] = "ab".substring(0, random.nextInt(3)) + "abc".substring(0, random.nextInt(4));
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new MSDStringSort(Alphabet.ASCII).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
     //    @Test
     public void sort() {
         final String[] input = "she sells seashells by the seashore the shells she sells are surely seashells".split(" ");
@@ -0,0 +1,69 @@
+package edu.neu.coe.huskySort.sort.radix;
+
+import edu.neu.coe.huskySort.sort.huskySort.HuskySortBenchmarkHelper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class ParallelMSDStringSortTest {
+
+    @Test
+    public void sortEmpty() {
+        final String[] xs = new String[0];
+        new ParallelMSDStringSort().sort(xs);
+        assertArrayEquals(new String[0], xs);
+    }
+
+    @Test
+    public void sortSmall() {
+        final String[] xs = "she sells seashells by the seashore the shells she sells are surely seashells".split(" ");
+        final String[] expected = "are by seashells seashells seashore sells sells she she shells surely the the".split(" ");
+        new ParallelMSDStringSort().sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void sortMixedLengths() {
+        final Random random = new Random(0L);
+        final String[] xs = new String[1000];
+        for (int i = 0; i < xs.length; i++) xs[i] = "ab".substring(0, random.nextInt(3)) + "abc".substring(0, random.nextInt(4));
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new ParallelMSDStringSort(100, ForkJoinPool.commonPool()).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void sortUnicode() {
+        // NOTE: the characters are chosen such that both their high and their low bytes vary.
+        final String alphabet = "aZéĀǿ一丁龥！";
+        final Random random = new Random(0L);
+        final String[] xs = new String[20000];
+        for (int i = 0; i < xs.length; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            xs[i] = sb.toString();
+        }
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new ParallelMSDStringSort(1000, new ForkJoinPool(4)).sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void sortLeipzigWords() {
+        final String[] words = HuskySortBenchmarkHelper.getLeipzigWords("zho-simp-tw_web_2014_10K-sentences.txt");
+        final Random random = new Random(0L);
+        final String[] xs = new String[100000];
+        for (int i = 0; i < xs.length; i++) xs[i] = words[random.nextInt(words.length)];
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        new ParallelMSDStringSort().sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+}
@@ -19,6 +19,7 @@ import static edu.neu.coe.huskySort.sort.huskySort.HuskySortBenchmark.CHINESE_NA
 import static edu.neu.coe.huskySort.sort.huskySort.HuskySortBenchmark.getWordSupplier;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class UnicodeMSDStringSortTest {
 
@@ -108,6 +109,48 @@ public class UnicodeMSDStringSortTest {
         assertEquals(4, copies);
     }
 
+    @Test
+    public void sortLeipzigWords() {
+        // NOTE: enough words that the characters are counted by DenseCounts (at least at the first level).
+        final String[] words = HuskySortBenchmarkHelper.getLeipzigWords("zho-simp-tw_web_2014_10K-sentences.txt");
+        final String[] xs = getWordSupplier(words, 5000, new Random(0L)).get();
+        final String[] expected = Arrays.copyOf(xs, xs.length);
+        new UnicodeMSDStringSort(characterMap).sortArray(xs);
+        for (int i = 1; i < xs.length; i++)
+            assertTrue(xs[i], characterMap.stringComparator.compare(xs[i - 1], xs[i]) <= 0);
+        Arrays.sort(xs);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void sortLongCommonPrefix() {
+        // NOTE: the common prefix is much deeper than the call stack would allow for a recursive sort.
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) sb.append('阿');
+        final String prefix = sb.toString();
+        final String suffixes = "朝涛林阿";
+        final Random random = new Random(0L);
+        final String[] xs = new String[1000];
+        for (int i = 0; i < xs.length; i++)
+            xs[i] = prefix + suffixes.charAt(random.nextInt(suffixes.length())) + suffixes.charAt(random.nextInt(suffixes.length()));
+        final String[] expected = xs.clone();
+        Arrays.sort(expected, characterMap.stringComparator);
+        final Sorter<String> sorter = new UnicodeMSDStringSort(characterMap);
+        sorter.sortArray(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void sortSubArray() {
+        final UnicodeString[] us = new UnicodeString[]{new UnicodeString(characterMap, "朝"), new UnicodeString(characterMap, "涛"), new UnicodeString(characterMap, "林"), new UnicodeString(characterMap, "阿")};
+        new UnicodeMSDStringSort(characterMap).sort(us, 1, 3);
+        assertEquals("朝", us[0].recoverString());
+        assertEquals("林", us[1].recoverString());
+        assertEquals("涛", us[2].recoverString());
+        assertEquals("阿", us[3].recoverString());
+    }
+
     @Test
     public void sortN1() {
         final String[] words = HuskySortBenchmarkHelper.getWords(CHINESE_NAMES_CORPUS, HuskySortBenchmark::lineAsList);
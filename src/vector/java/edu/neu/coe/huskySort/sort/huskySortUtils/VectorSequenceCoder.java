@@ -0,0 +1,108 @@
+package edu.neu.coe.huskySort.sort.huskySortUtils;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Husky sequence coder for Strings which uses the (incubating) JDK Vector API to pack characters into a long.
+ * The codes are identical to those of the corresponding (scalar) coders of HuskyCoderFactory.
+ * <p>
+ * Eight characters are loaded at once, widened to eight long lanes, masked and shifted lane-wise,
+ * and then reduced (by OR) into the husky code.
+ * Any further characters (the ASCII and English codings use nine and ten characters respectively) are added by the scalar method.
+ * <p>
+ * NOTE: this class is compiled only by the "vector" profile (it requires --add-modules jdk.incubator.vector).
+ * Use VectorSupport to obtain these coders, falling back to the scalar coders when the Vector API is not available.
+ */
+public final class VectorSequenceCoder extends BaseHuskySequenceCoder<String> {
+
+    // NOTE: these species must be initialized before the coders.
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_128;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_512;
+    private static final int LANES = SHORTS.length();
+    private static final int SCRATCH_LENGTH = 2 * LANES;
+
+    public static final VectorSequenceCoder ASCII = new VectorSequenceCoder("ASCII", 7, 0x7F, false, false);
+    public static final VectorSequenceCoder ENGLISH = new VectorSequenceCoder("English", 6, 0x3F, false, false);
+    // NOTE: like HuskyCoderFactory.unicodeCoder, the last of the four characters is not perfectly encoded.
+    public static final VectorSequenceCoder UNICODE = new VectorSequenceCoder("Unicode", 16, 0xFFFF, true, true);
+
+    /**
+     * Encode x as a long.
+     *
+     * @param str the String to encode.
+     * @return the same long as the corresponding scalar coder.
+     */
+    public long huskyEncode(final String str) {
+        return huskyEncode(str, new char[SCRATCH_LENGTH]);
+    }
+
+    /**
+     * Encode the elements of xs from "from" until "to" (exclusive) into the corresponding elements of longs.
+     * A single scratch buffer is used for all the elements.
+     *
+     * @param xs    an array of Strings.
+     * @param longs the array of longs into which the codes will be placed.
+     * @param from  the index of the first element to encode.
+     * @param to    the index of the first element not to encode.
+     * @return true if every element in the range is no longer than maxLength.
+     */
+    @Override
+    public boolean huskyEncode(final String[] xs, final long[] longs, final int from, final int to) {
+        final char[] scratch = new char[SCRATCH_LENGTH];
+        boolean isPerfect = true;
+        for (int i = from; i < to; i++) {
+            final String x = xs[i];
+            if (isPerfect) isPerfect = perfectForLength(x.length());
+            longs[i] = huskyEncode(x, scratch);
+        }
+        return isPerfect;
+    }
+
+    private long huskyEncode(final String str, final char[] scratch) {
+        final int length = Math.min(str.length(), encodedLength);
+        str.getChars(0, length, scratch, 0);
+        Arrays.fill(scratch, length, SCRATCH_LENGTH, '\0');
+        final LongVector chars = (LongVector) ShortVector.fromCharArray(SHORTS, scratch, 0).convertShape(VectorOperators.S2L, LONGS, 0);
+        long result = chars.and(laneMasks).lanewise(VectorOperators.LSHL, laneShifts).reduceLanes(VectorOperators.OR);
+        for (int i = LANES; i < length; i++) result |= (long) (scratch[i] & mask) << bitWidth * (encodedLength - 1 - i);
+        return shift ? result >>> 1 : result;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name     the name of this coder.
+     * @param bitWidth the number of bits per character.
+     * @param mask     the mask to be applied to each character.
+     * @param shift    true if the code fills all 64 bits and so must be shifted right by one bit to keep it non-negative
+     *                 (in which case the last character cannot be perfectly encoded).
+     * @param monotone true if the codes of the coder are monotone (see HuskyCoder.monotone).
+     */
+    private VectorSequenceCoder(final String name, final int bitWidth, final int mask, final boolean shift, final boolean monotone) {
+        super(name, shift ? Long.SIZE / bitWidth - 1 : Long.SIZE / bitWidth, monotone);
+        this.shift = shift;
+        this.bitWidth = bitWidth;
+        this.mask = mask;
+        this.encodedLength = Long.SIZE / bitWidth;
+        final long[] masks = new long[LANES];
+        final long[] shifts = new long[LANES];
+        for (int i = 0; i < LANES && i < encodedLength; i++) {
+            masks[i] = mask;
+            shifts[i] = (long) bitWidth * (encodedLength - 1 - i);
+        }
+        this.laneMasks = LongVector.fromArray(LONGS, masks, 0);
+        this.laneShifts = LongVector.fromArray(LONGS, shifts, 0);
+    }
+
+    private final boolean shift;
+    private final int bitWidth;
+    private final int mask;
+    private final int encodedLength;
+    private final LongVector laneMasks;
+    private final LongVector laneShifts;
+}